@@ -1,3 +1,13 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Your implementation of an ArrayList.
  *
@@ -6,11 +16,15 @@
  * @GTID 903399427
  * @version 1.0
  */
-public class ArrayList<T> {
+public class ArrayList<T> implements Iterable<T> {
 
-	// Do not add new instance variables.
 	private T[] backingArray;
+	private int front;
 	private int size;
+	private final int initialCapacity;
+	private final GrowthPolicy growthPolicy;
+	private final boolean circular;
+	private int modCount;
 
 	/**
 	 * The initial capacity of the array list.
@@ -23,6 +37,58 @@ public class ArrayList<T> {
 	 * You may add statements to this method.
 	 */
 	public ArrayList() {
+		this(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new ArrayList whose backing array starts at the given
+	 * capacity and doubles whenever it is full.
+	 *
+	 * @param initialCapacity the starting length of the backing array
+	 * @throws java.lang.IllegalArgumentException if initialCapacity is negative
+	 */
+	public ArrayList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.DOUBLING);
+	}
+
+	/**
+	 * Constructs a new ArrayList whose backing array starts at the given
+	 * capacity and regrows according to the given policy.
+	 *
+	 * @param initialCapacity the starting length of the backing array
+	 * @param growthPolicy decides the new capacity whenever the list is full
+	 * @throws java.lang.IllegalArgumentException if initialCapacity is negative
+	 * or growthPolicy is null
+	 */
+	public ArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+		this(initialCapacity, growthPolicy, false);
+	}
+
+	/**
+	 * Constructs a new ArrayList, optionally in circular mode.
+	 *
+	 * In circular mode the front of the list may sit anywhere in the backing
+	 * array and the elements wrap around its end, so adding or removing at
+	 * either end is amortized O(1) and other adds and removes shift whichever
+	 * side of the index is shorter. Call {@link #compact()} before inspecting
+	 * {@link #getBackingArray()} to move the front back to index 0.
+	 *
+	 * @param initialCapacity the starting length of the backing array
+	 * @param growthPolicy decides the new capacity whenever the list is full
+	 * @param circular whether the front of the list may move away from index 0
+	 * @throws java.lang.IllegalArgumentException if initialCapacity is negative
+	 * or growthPolicy is null
+	 */
+	public ArrayList(int initialCapacity, GrowthPolicy growthPolicy, boolean circular) {
+		if(initialCapacity < 0) {
+			throw new IllegalArgumentException("Cannot create ArrayList with negative capacity. Capacity: " + initialCapacity);
+		}
+		if(growthPolicy == null) {
+			throw new IllegalArgumentException("Cannot create ArrayList with null growth policy.");
+		}
+		this.initialCapacity = initialCapacity;
+		this.growthPolicy = growthPolicy;
+		this.circular = circular;
 		this.clear();
 	}
 
@@ -32,7 +98,8 @@ public class ArrayList<T> {
 	 * Remember that this add may require elements to be shifted.
 	 *
 	 * Adding to index {@code size} should be amortized O(1),
-	 * all other adds are O(n).
+	 * all other adds are O(n). In circular mode adding to index 0 is also
+	 * amortized O(1).
 	 *
 	 * @param index The index where you want the new element.
 	 * @param data The data to add to the list.
@@ -51,20 +118,21 @@ public class ArrayList<T> {
 			throw new IllegalArgumentException("Cannot insert null data into ArrayList.");
 		}
 		if(size == backingArray.length) {
-			T[] newArray = (T[]) new Object[(int)(backingArray.length * 2)];
-			for(int i = 0; i < backingArray.length; i++) {
-				newArray[i] = backingArray[i];
-			}
-
-			backingArray = newArray;
+			resize(Math.max(growthPolicy.nextCapacity(backingArray.length), size + 1));
 		}
-		for(int i = size; i > index; i--) {
-			backingArray[i] = backingArray[i - 1];
+		if(circular && index < size - index) {
+			front = front == 0 ? backingArray.length - 1 : front - 1;
+			for(int i = 0; i < index; i++) {
+				backingArray[physicalIndex(i)] = backingArray[physicalIndex(i + 1)];
+			}
+		} else {
+			for(int i = size; i > index; i--) {
+				backingArray[physicalIndex(i)] = backingArray[physicalIndex(i - 1)];
+			}
 		}
-		backingArray[index] = data;
+		backingArray[physicalIndex(index)] = data;
 		size++;
-
-
+		modCount++;
 	}
 
 	/**
@@ -72,7 +140,7 @@ public class ArrayList<T> {
 	 *
 	 * Remember that this add may require elements to be shifted.
 	 *
-	 * Must be O(n).
+	 * Must be O(n), or amortized O(1) in circular mode.
 	 *
 	 * @param data The data to add to the list.
 	 * @throws java.lang.IllegalArgumentException if data is null
@@ -99,13 +167,96 @@ public class ArrayList<T> {
 		addAtIndex(size, data);
 	}
 
+	/**
+	 * Inserts every element of the given array, in order, starting at the
+	 * index specified.
+	 *
+	 * The elements after index are shifted only once, so this is O(n + k),
+	 * where k is the length of data, instead of the O(n * k) of adding them
+	 * one at a time.
+	 *
+	 * @param index The index where you want the first new element.
+	 * @param data The data to add to the list.
+	 * @throws java.lang.IndexOutOfBoundsException if index is negative
+	 * or index > size
+	 * @throws java.lang.IllegalArgumentException if data or any element in
+	 * data is null
+	 */
+	public void addAll(int index, T[] data) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Cannot insert data at negative index.");
+		}
+		if(index > size) {
+			throw new IndexOutOfBoundsException("Cannot insert data at index greater than ArrayList size. Index: " + index + ", Size: " + size);
+		}
+		checkNoNulls(data);
+		splice(index, index, data);
+	}
+
+	/**
+	 * Inserts every element of the given collection, in iteration order,
+	 * starting at the index specified.
+	 *
+	 * Must be O(n + k), where k is the size of data.
+	 *
+	 * @param index The index where you want the first new element.
+	 * @param data The data to add to the list.
+	 * @throws java.lang.IndexOutOfBoundsException if index is negative
+	 * or index > size
+	 * @throws java.lang.IllegalArgumentException if data or any element in
+	 * data is null
+	 */
+	public void addAll(int index, Collection<? extends T> data) {
+		if(data == null) {
+			throw new IllegalArgumentException("Cannot insert null collection into ArrayList.");
+		}
+		addAll(index, (T[]) data.toArray());
+	}
+
+	/**
+	 * Removes every element from index {@code from}, inclusive, to index
+	 * {@code to}, exclusive.
+	 *
+	 * The elements after the range are shifted only once, so this is O(n).
+	 *
+	 * @param from The index of the first element to remove.
+	 * @param to The index after the last element to remove.
+	 * @throws java.lang.IndexOutOfBoundsException if from < 0, to > size
+	 * or from > to
+	 */
+	public void removeRange(int from, int to) {
+		checkRange(from, to);
+		splice(from, to, new Object[0]);
+	}
+
+	/**
+	 * Replaces every element from index {@code from}, inclusive, to index
+	 * {@code to}, exclusive, with the elements of the given array. The
+	 * array does not need to be the same length as the range.
+	 *
+	 * Must be O(n + k), where k is the length of data.
+	 *
+	 * @param from The index of the first element to replace.
+	 * @param to The index after the last element to replace.
+	 * @param data The data to put in place of the range.
+	 * @throws java.lang.IndexOutOfBoundsException if from < 0, to > size
+	 * or from > to
+	 * @throws java.lang.IllegalArgumentException if data or any element in
+	 * data is null
+	 */
+	public void replaceRange(int from, int to, T[] data) {
+		checkRange(from, to);
+		checkNoNulls(data);
+		splice(from, to, data);
+	}
+
 	/**
 	 * Removes and returns the element at index.
 	 *
 	 * Remember that this remove may require elements to be shifted.
 	 *
 	 * This method should be O(1) for index {@code size - 1} and O(n) in
-	 * all other cases.
+	 * all other cases. In circular mode removing index 0 is also O(1).
 	 *
 	 * @param index The index of the element
 	 * @return The object that was formerly at that index.
@@ -120,14 +271,25 @@ public class ArrayList<T> {
 			throw new IndexOutOfBoundsException("Cannot remove data from index greater than ArrayList size. Index: " + index + ", Size: " + size);
 		}
 
-		T removedObject = backingArray[index];
+		T removedObject = backingArray[physicalIndex(index)];
 
-		for(int i = index; i < size - 1; i++) {
-			backingArray[i] = backingArray[i + 1];
+		if(circular && index < size - 1 - index) {
+			for(int i = index; i > 0; i--) {
+				backingArray[physicalIndex(i)] = backingArray[physicalIndex(i - 1)];
+			}
+			backingArray[front] = null;
+			front = physicalIndex(1);
+		} else {
+			for(int i = index; i < size - 1; i++) {
+				backingArray[physicalIndex(i)] = backingArray[physicalIndex(i + 1)];
+			}
+			backingArray[physicalIndex(size - 1)] = null;
 		}
-		backingArray[size - 1] = null;
 		size--;
-
+		modCount++;
+		if(size == 0) {
+			front = 0;
+		}
 
 		return removedObject;
 	}
@@ -137,7 +299,7 @@ public class ArrayList<T> {
 	 *
 	 * Remember that this remove may require elements to be shifted.
 	 *
-	 * Must be O(n).
+	 * Must be O(n), or O(1) in circular mode.
 	 *
 	 * @return The data from the front of the list or null if the list is empty
 	 */
@@ -179,7 +341,7 @@ public class ArrayList<T> {
 		if(index >= size) {
 			throw new IndexOutOfBoundsException("Cannot get data from index greater than ArrayList size. Index: " + index + ", Size: " + size);
 		}
-		return backingArray[index];
+		return backingArray[physicalIndex(index)];
 	}
 
 	/**
@@ -190,10 +352,7 @@ public class ArrayList<T> {
 	 * @return true if empty; false otherwise
 	 */
 	public boolean isEmpty() {
-		if(backingArray[0] == null) {
-			return true;
-		}
-		return false;
+		return size == 0;
 	}
 
 	/**
@@ -203,8 +362,190 @@ public class ArrayList<T> {
 	 * Must be O(1).
 	 */
 	public void clear() {
-		this.backingArray = (T[]) new Object[INITIAL_CAPACITY];
+		this.backingArray = (T[]) new Object[initialCapacity];
+		front = 0;
 		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Grows the backing array, if necessary, so that it can hold at least
+	 * {@code minCapacity} elements without regrowing.
+	 *
+	 * Use this before a bulk load to pay for a single copy instead of one per
+	 * regrow.
+	 *
+	 * Must be O(n) if the array grows and O(1) otherwise.
+	 *
+	 * @param minCapacity the number of elements the list should be able to hold
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if(minCapacity > backingArray.length) {
+			resize(Math.max(growthPolicy.nextCapacity(backingArray.length), minCapacity));
+		}
+	}
+
+	/**
+	 * Shrinks the backing array to exactly the size of the list, releasing
+	 * any unused capacity.
+	 *
+	 * Must be O(n).
+	 */
+	public void trimToSize() {
+		if(size < backingArray.length) {
+			resize(size);
+		}
+	}
+
+	/**
+	 * Moves the front of the list back to index 0 of the backing array, so
+	 * that {@link #getBackingArray()} shows the elements in order from the
+	 * start of the array. Only circular mode ever needs this.
+	 *
+	 * Must be O(n) if the front has moved and O(1) otherwise.
+	 */
+	public void compact() {
+		if(front != 0) {
+			resize(backingArray.length);
+		}
+	}
+
+	/**
+	 * Copies the elements of the list, in order, to the start of a new
+	 * backing array of the given length.
+	 *
+	 * @param capacity the length of the new backing array, at least size
+	 */
+	private void resize(int capacity) {
+		T[] newArray = (T[]) new Object[capacity];
+		int firstRun = Math.min(size, backingArray.length - front);
+		System.arraycopy(backingArray, front, newArray, 0, firstRun);
+		System.arraycopy(backingArray, 0, newArray, firstRun, size - firstRun);
+		backingArray = newArray;
+		front = 0;
+	}
+
+	/**
+	 * Replaces the elements in [from, to) with the given data, shifting the
+	 * rest of the list at most once. Assumes the arguments are valid.
+	 *
+	 * @param from The index of the first element to replace.
+	 * @param to The index after the last element to replace.
+	 * @param data The data to put in place of the range.
+	 */
+	private void splice(int from, int to, Object[] data) {
+		int newSize = size - (to - from) + data.length;
+		if(newSize > backingArray.length) {
+			T[] newArray = (T[]) new Object[Math.max(growthPolicy.nextCapacity(backingArray.length), newSize)];
+			compact();
+			System.arraycopy(backingArray, 0, newArray, 0, from);
+			System.arraycopy(backingArray, to, newArray, from + data.length, size - to);
+			backingArray = newArray;
+		} else {
+			compact();
+			System.arraycopy(backingArray, to, backingArray, from + data.length, size - to);
+			if(newSize < size) {
+				Arrays.fill(backingArray, newSize, size, null);
+			}
+		}
+		System.arraycopy(data, 0, backingArray, from, data.length);
+		size = newSize;
+		modCount++;
+	}
+
+	/**
+	 * Checks that [from, to) is a valid range of indices in the list.
+	 *
+	 * @param from The index of the first element in the range.
+	 * @param to The index after the last element in the range.
+	 * @throws java.lang.IndexOutOfBoundsException if from < 0, to > size
+	 * or from > to
+	 */
+	private void checkRange(int from, int to) {
+		if(from < 0) {
+			throw new IndexOutOfBoundsException("Range cannot start at negative index.");
+		}
+		if(to > size) {
+			throw new IndexOutOfBoundsException("Range cannot end past ArrayList size. To: " + to + ", Size: " + size);
+		}
+		if(from > to) {
+			throw new IndexOutOfBoundsException("Range cannot start after it ends. From: " + from + ", To: " + to);
+		}
+	}
+
+	/**
+	 * Checks that neither the array nor any of its elements are null.
+	 *
+	 * @param data The array to check.
+	 * @throws java.lang.IllegalArgumentException if data or any element in
+	 * data is null
+	 */
+	private void checkNoNulls(Object[] data) {
+		if(data == null) {
+			throw new IllegalArgumentException("Cannot insert null array into ArrayList.");
+		}
+		for(Object datum : data) {
+			if(datum == null) {
+				throw new IllegalArgumentException("Cannot insert null data into ArrayList.");
+			}
+		}
+	}
+
+	/**
+	 * Converts an index in the list to its index in the backing array.
+	 *
+	 * @param index the index in the list, between 0 and size inclusive
+	 * @return the index of that element in the backing array
+	 */
+	private int physicalIndex(int index) {
+		int physical = front + index;
+		return physical >= backingArray.length ? physical - backingArray.length : physical;
+	}
+
+	/**
+	 * Returns an iterator over the list from front to back.
+	 *
+	 * The iterator is fail-fast: if the list is structurally modified other
+	 * than through the iterator's own remove, its next call throws a
+	 * ConcurrentModificationException.
+	 *
+	 * @return an iterator over the elements of the list
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new ArrayListIterator();
+	}
+
+	/**
+	 * Returns a spliterator over the list from front to back.
+	 *
+	 * It reports SIZED, SUBSIZED, ORDERED and NONNULL, and splits its range
+	 * of indices exactly in half, so parallel streams divide the list evenly.
+	 * Like the iterator it is fail-fast.
+	 *
+	 * @return a spliterator over the elements of the list
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new ArrayListSpliterator(0, size, modCount);
+	}
+
+	/**
+	 * Returns a sequential stream over the list.
+	 *
+	 * @return a stream of the elements of the list
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns a parallel stream over the list.
+	 *
+	 * @return a possibly parallel stream of the elements of the list
+	 */
+	public Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
 	}
 
 	/**
@@ -230,4 +571,122 @@ public class ArrayList<T> {
 		// DO NOT MODIFY THIS METHOD!
 		return backingArray;
 	}
+
+	/**
+	 * Fail-fast iterator over the list.
+	 */
+	private class ArrayListIterator implements Iterator<T> {
+		private int cursor;
+		private int lastReturned = -1;
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		@Override
+		public T next() {
+			checkForComodification();
+			if(cursor >= size) {
+				throw new NoSuchElementException("No more elements in ArrayList.");
+			}
+			lastReturned = cursor++;
+			return backingArray[physicalIndex(lastReturned)];
+		}
+
+		@Override
+		public void remove() {
+			if(lastReturned < 0) {
+				throw new IllegalStateException("next() has not been called since the last remove().");
+			}
+			checkForComodification();
+			removeAtIndex(lastReturned);
+			cursor = lastReturned;
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+
+		/**
+		 * Throws if the list was modified outside of this iterator.
+		 */
+		private void checkForComodification() {
+			if(modCount != expectedModCount) {
+				throw new ConcurrentModificationException("ArrayList was modified during iteration.");
+			}
+		}
+	}
+
+	/**
+	 * Fail-fast spliterator over a range of indices in the list.
+	 */
+	private class ArrayListSpliterator implements Spliterator<T> {
+		private int index;
+		private final int fence;
+		private final int expectedModCount;
+
+		/**
+		 * Creates a spliterator over [origin, fence).
+		 *
+		 * @param origin the first index covered
+		 * @param fence the index after the last index covered
+		 * @param expectedModCount the modCount the list should keep
+		 */
+		ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+			this.index = origin;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int mid = (index + fence) >>> 1;
+			if(mid <= index) {
+				return null;
+			}
+			Spliterator<T> prefix = new ArrayListSpliterator(index, mid, expectedModCount);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if(action == null) {
+				throw new NullPointerException("Action cannot be null.");
+			}
+			if(index >= fence) {
+				return false;
+			}
+			T data = backingArray[physicalIndex(index++)];
+			action.accept(data);
+			if(modCount != expectedModCount) {
+				throw new ConcurrentModificationException("ArrayList was modified during iteration.");
+			}
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			if(action == null) {
+				throw new NullPointerException("Action cannot be null.");
+			}
+			for(int i = index; i < fence; i++) {
+				action.accept(backingArray[physicalIndex(i)]);
+			}
+			index = fence;
+			if(modCount != expectedModCount) {
+				throw new ConcurrentModificationException("ArrayList was modified during iteration.");
+			}
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL;
+		}
+	}
 }
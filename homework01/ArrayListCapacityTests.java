@@ -0,0 +1,100 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the capacity management of ArrayList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class ArrayListCapacityTests {
+
+    public static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialCapacity() {
+        ArrayList<Integer> list = new ArrayList<>(100);
+        assertEquals(100, list.getBackingArray().length);
+        for (int i = 0; i < 100; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(100, list.getBackingArray().length);
+        list.addToBack(100);
+        assertEquals(200, list.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testZeroCapacity() {
+        ArrayList<String> list = new ArrayList<>(0);
+        assertTrue(list.isEmpty());
+        list.addToBack("a");
+        list.addToBack("b");
+        assertEquals("b", list.get(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnsureCapacity() {
+        ArrayList<String> list = new ArrayList<>();
+        list.addToBack("a");
+        list.ensureCapacity(1000);
+        assertEquals(1000, list.getBackingArray().length);
+        assertEquals("a", list.get(0));
+
+        list.ensureCapacity(10);
+        assertEquals(1000, list.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTrimToSize() {
+        ArrayList<String> list = new ArrayList<>();
+        list.addToBack("a");
+        list.addToBack("b");
+        list.trimToSize();
+        assertArrayEquals(new Object[] {"a", "b"}, list.getBackingArray());
+
+        list.removeFromBack();
+        list.removeFromBack();
+        list.trimToSize();
+        assertEquals(0, list.getBackingArray().length);
+        list.addToFront("c");
+        assertEquals("c", list.get(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAdditivePolicy() {
+        ArrayList<Integer> list = new ArrayList<>(4,
+                GrowthPolicy.additive(3));
+        for (int i = 0; i < 5; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(7, list.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCappedPolicy() {
+        GrowthPolicy policy = GrowthPolicy.capped(2, 10);
+        assertEquals(8, policy.nextCapacity(4));
+        assertEquals(110, policy.nextCapacity(100));
+        assertEquals(Integer.MAX_VALUE,
+                GrowthPolicy.DOUBLING.nextCapacity(Integer.MAX_VALUE - 1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClearRestoresInitialCapacity() {
+        ArrayList<Integer> list = new ArrayList<>(50);
+        list.ensureCapacity(500);
+        list.clear();
+        assertEquals(50, list.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new ArrayList<String>(-1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testShrinkingFactor() {
+        GrowthPolicy.multiplicative(1);
+    }
+}
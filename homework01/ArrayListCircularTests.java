@@ -0,0 +1,105 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the circular mode of ArrayList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class ArrayListCircularTests {
+
+    private ArrayList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new ArrayList<>(ArrayList.INITIAL_CAPACITY,
+                GrowthPolicy.DOUBLING, true);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToFrontWraps() {
+        list.addToFront(1);
+        list.addToFront(0);
+        list.addToBack(2);
+
+        Object[] backing = list.getBackingArray();
+        assertEquals(1, backing[0]);
+        assertEquals(2, backing[1]);
+        assertEquals(0, backing[ArrayList.INITIAL_CAPACITY - 1]);
+
+        assertEquals((Integer) 0, list.get(0));
+        assertEquals((Integer) 1, list.get(1));
+        assertEquals((Integer) 2, list.get(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCompact() {
+        list.addToBack(1);
+        list.addToBack(2);
+        list.addToFront(0);
+        list.compact();
+
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[0] = 0;
+        expected[1] = 1;
+        expected[2] = 2;
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRegrowUnwraps() {
+        for (int i = ArrayList.INITIAL_CAPACITY - 1; i >= 0; i--) {
+            list.addToFront(i);
+        }
+        list.addToBack(ArrayList.INITIAL_CAPACITY);
+        Object[] backing = list.getBackingArray();
+        assertEquals(ArrayList.INITIAL_CAPACITY * 2, backing.length);
+        for (int i = 0; i <= ArrayList.INITIAL_CAPACITY; i++) {
+            assertEquals(i, backing[i]);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromFrontNullsSlot() {
+        list.addToBack(0);
+        list.addToBack(1);
+        list.addToBack(2);
+        assertEquals((Integer) 0, list.removeFromFront());
+        assertNull(list.getBackingArray()[0]);
+        assertEquals((Integer) 1, list.get(0));
+        assertEquals(2, list.size());
+    }
+
+    @Test(timeout = 1000)
+    public void testMatchesJavaList() {
+        Random random = new Random(1332);
+        java.util.List<Integer> oracle = new java.util.ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(4);
+            if (op < 2 || oracle.isEmpty()) {
+                int index = random.nextInt(oracle.size() + 1);
+                list.addAtIndex(index, i);
+                oracle.add(index, i);
+            } else {
+                int index = random.nextInt(oracle.size());
+                assertEquals(oracle.remove(index), list.removeAtIndex(index));
+            }
+            assertEquals(oracle.size(), list.size());
+        }
+        for (int i = 0; i < oracle.size(); i++) {
+            assertEquals(oracle.get(i), list.get(i));
+        }
+        list.trimToSize();
+        assertEquals(oracle.size(), list.getBackingArray().length);
+        for (int i = 0; i < oracle.size(); i++) {
+            assertEquals(oracle.get(i), list.getBackingArray()[i]);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for iterating over an ArrayList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class ArrayListIterationTests {
+
+    private ArrayList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testForEach() {
+        int expected = 0;
+        for (int data : list) {
+            assertEquals(expected++, data);
+        }
+        assertEquals(10, expected);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIteratorRemove() {
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(5, list.size());
+        assertEquals((Integer) 1, list.get(0));
+        assertEquals((Integer) 9, list.get(4));
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testFailFast() {
+        for (int data : list) {
+            if (data == 3) {
+                list.addToBack(100);
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testRemoveBeforeNext() {
+        list.iterator().remove();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpliteratorSplitsEvenly() {
+        Spliterator<Integer> right = list.spliterator();
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED
+                | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> left = right.trySplit();
+        assertEquals(5, left.estimateSize());
+        assertEquals(5, right.estimateSize());
+        left.tryAdvance(data -> assertEquals((Integer) 0, data));
+        right.tryAdvance(data -> assertEquals((Integer) 5, data));
+    }
+
+    @Test(timeout = 2000)
+    public void testParallelStream() {
+        ArrayList<Integer> big = new ArrayList<>(100000);
+        long expected = 0;
+        for (int i = 0; i < 100000; i++) {
+            big.addToBack(i);
+            expected += i;
+        }
+        assertEquals(expected, big.parallelStream()
+                .mapToLong(Integer::longValue).sum());
+        assertEquals("0,1,2,3,4,5,6,7,8,9", list.stream()
+                .map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCircularIteration() {
+        ArrayList<Integer> circular = new ArrayList<>(4,
+                GrowthPolicy.DOUBLING, true);
+        circular.addToBack(2);
+        circular.addToBack(3);
+        circular.addToFront(1);
+        circular.addToFront(0);
+        assertEquals("0123", circular.stream().map(String::valueOf)
+                .collect(Collectors.joining()));
+    }
+}
@@ -0,0 +1,119 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the bulk range operations of ArrayList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class ArrayListRangeTests {
+
+    private ArrayList<String> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            list.addToBack(i + "a"); // 0a 1a 2a 3a 4a
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllMiddle() {
+        list.addAll(2, new String[] {"x", "y"});
+
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[1] = "1a";
+        expected[2] = "x";
+        expected[3] = "y";
+        expected[4] = "2a";
+        expected[5] = "3a";
+        expected[6] = "4a";
+        assertEquals(7, list.size());
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllRegrows() {
+        String[] data = new String[20];
+        Arrays.fill(data, "z");
+        list.addAll(0, Arrays.asList(data));
+
+        assertEquals(25, list.size());
+        assertEquals(26, list.getBackingArray().length);
+        assertEquals("z", list.get(19));
+        assertEquals("0a", list.get(20));
+        assertEquals("4a", list.get(24));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveRange() {
+        list.removeRange(1, 4);
+
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[1] = "4a";
+        assertEquals(2, list.size());
+        assertArrayEquals(expected, list.getBackingArray());
+
+        list.removeRange(0, 2);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReplaceRange() {
+        list.replaceRange(1, 3, new String[] {"x"});
+        assertEquals(4, list.size());
+        assertEquals("x", list.get(1));
+        assertEquals("3a", list.get(2));
+        assertNull(list.getBackingArray()[4]);
+
+        list.replaceRange(0, 1, new String[] {"p", "q", "r"});
+        assertEquals(6, list.size());
+        assertEquals("r", list.get(2));
+        assertEquals("x", list.get(3));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCircularRange() {
+        ArrayList<String> circular = new ArrayList<>(8,
+                GrowthPolicy.DOUBLING, true);
+        circular.addToBack("c");
+        circular.addToFront("b");
+        circular.addToFront("a");
+        circular.addAll(1, new String[] {"x", "y"});
+        assertEquals("a", circular.get(0));
+        assertEquals("y", circular.get(2));
+        assertEquals("c", circular.get(4));
+        circular.removeRange(0, 2);
+        assertEquals("y", circular.get(0));
+        assertEquals(3, circular.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddAllNullElement() {
+        try {
+            list.addAll(0, new String[] {"x", null});
+        } finally {
+            assertEquals(5, list.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testRemoveRangeBackwards() {
+        list.removeRange(3, 2);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testReplaceRangePastEnd() {
+        list.replaceRange(3, 6, new String[0]);
+    }
+}
@@ -0,0 +1,139 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free, append-only list that many threads can add to at once.
+ *
+ * Each add claims the next index with a compare-and-set on the tail, then
+ * writes its element into a segment. Segment k holds
+ * {@code FIRST_SEGMENT_SIZE * 2^k} elements and is allocated once, the
+ * first time an index in it is claimed, so growing never copies anything
+ * and adders never wait on one another.
+ *
+ * @author Ishan Arya
+ * @userid iarya3
+ * @GTID 903399427
+ * @version 1.0
+ */
+public class ConcurrentAppendList<T> {
+
+	/**
+	 * The number of elements in the first segment. Must be a power of two.
+	 */
+	public static final int FIRST_SEGMENT_SIZE = 32;
+
+	private static final int FIRST_SEGMENT_SHIFT = Integer.numberOfTrailingZeros(FIRST_SEGMENT_SIZE);
+	private static final int SEGMENT_COUNT = 31 - FIRST_SEGMENT_SHIFT;
+
+	/**
+	 * The largest number of elements the list can hold, the total size of
+	 * all its segments.
+	 */
+	public static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT_SIZE + 1;
+
+	private final AtomicReferenceArray<AtomicReferenceArray<T>> segments;
+	private final AtomicInteger tail;
+
+	/**
+	 * Constructs a new, empty ConcurrentAppendList.
+	 */
+	public ConcurrentAppendList() {
+		segments = new AtomicReferenceArray<>(SEGMENT_COUNT);
+		tail = new AtomicInteger();
+	}
+
+	/**
+	 * Add the given data to the back of the list.
+	 *
+	 * Safe to call from any number of threads at once. Lock-free, and O(1)
+	 * apart from allocating a new segment every time the list doubles.
+	 *
+	 * @param data The data to add to the list.
+	 * @return the index the data was added at
+	 * @throws java.lang.IllegalArgumentException if data is null
+	 * @throws java.lang.IllegalStateException if the list already holds
+	 * {@code MAX_SIZE} elements
+	 */
+	public int addToBack(T data) {
+		if(data == null) {
+			throw new IllegalArgumentException("Cannot insert null data into ConcurrentAppendList.");
+		}
+		int index;
+		do {
+			index = tail.get();
+			if(index >= MAX_SIZE) {
+				throw new IllegalStateException("ConcurrentAppendList is full. Size: " + index);
+			}
+		} while(!tail.compareAndSet(index, index + 1));
+
+		int position = index + FIRST_SEGMENT_SIZE;
+		int highBit = 31 - Integer.numberOfLeadingZeros(position);
+		segment(highBit - FIRST_SEGMENT_SHIFT).lazySet(position ^ (1 << highBit), data);
+		return index;
+	}
+
+	/**
+	 * Returns the element at the given index.
+	 *
+	 * Wait-free and O(1). A thread that knows addToBack has returned an
+	 * index, for example because it was handed that index through a
+	 * concurrent queue or a join, sees its element. An index claimed by an
+	 * add that has not finished publishing yet reads as null.
+	 *
+	 * @param index The index of the element
+	 * @return The data stored at that index, or null if it is not published
+	 * yet
+	 * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+	 * index >= size
+	 */
+	public T get(int index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Cannot get data from negative index.");
+		}
+		int size = tail.get();
+		if(index >= size) {
+			throw new IndexOutOfBoundsException("Cannot get data from index greater than ConcurrentAppendList size. Index: " + index + ", Size: " + size);
+		}
+		int position = index + FIRST_SEGMENT_SIZE;
+		int highBit = 31 - Integer.numberOfLeadingZeros(position);
+		AtomicReferenceArray<T> segment = segments.get(highBit - FIRST_SEGMENT_SHIFT);
+		return segment == null ? null : segment.get(position ^ (1 << highBit));
+	}
+
+	/**
+	 * Return a boolean value representing whether or not the list is empty.
+	 *
+	 * Must be O(1).
+	 *
+	 * @return true if empty; false otherwise
+	 */
+	public boolean isEmpty() {
+		return tail.get() == 0;
+	}
+
+	/**
+	 * Return the number of indices claimed so far. Adds still in progress
+	 * are counted even though their elements may not be visible yet.
+	 *
+	 * @return the size of the list
+	 */
+	public int size() {
+		return tail.get();
+	}
+
+	/**
+	 * Returns the segment with the given number, allocating it if no thread
+	 * has yet.
+	 *
+	 * @param number the number of the segment
+	 * @return the segment
+	 */
+	private AtomicReferenceArray<T> segment(int number) {
+		AtomicReferenceArray<T> segment = segments.get(number);
+		if(segment == null) {
+			segments.compareAndSet(number, null, new AtomicReferenceArray<>(FIRST_SEGMENT_SIZE << number));
+			segment = segments.get(number);
+		}
+		return segment;
+	}
+}
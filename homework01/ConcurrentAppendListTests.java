@@ -0,0 +1,72 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for ConcurrentAppendList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class ConcurrentAppendListTests {
+
+    private ConcurrentAppendList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new ConcurrentAppendList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSingleThread() {
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, list.addToBack(i));
+        }
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals((Integer) i, list.get(i));
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testManyProducers() throws InterruptedException {
+        int threads = 8;
+        int perThread = 50000;
+        Thread[] producers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    list.addToBack(id * perThread + i);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(threads * perThread, list.size());
+        boolean[] seen = new boolean[threads * perThread];
+        for (int i = 0; i < list.size(); i++) {
+            int data = list.get(i);
+            assertFalse(seen[data]);
+            seen[data] = true;
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetPastEnd() {
+        list.addToBack(1);
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        list.addToBack(null);
+    }
+}
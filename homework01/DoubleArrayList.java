@@ -0,0 +1,243 @@
+import java.util.NoSuchElementException;
+
+/**
+ * An ArrayList specialized for primitive doubles.
+ *
+ * Mirrors the operations of {@link ArrayList}, but stores its elements in an
+ * {@code double[]} so no element is ever boxed.
+ *
+ * @author Ishan Arya
+ * @userid iarya3
+ * @GTID 903399427
+ * @version 1.0
+ */
+public class DoubleArrayList {
+
+	private double[] backingArray;
+	private int size;
+
+	/**
+	 * The initial capacity of the array list.
+	 */
+	public static final int INITIAL_CAPACITY = ArrayList.INITIAL_CAPACITY;
+
+	/**
+	 * Constructs a new DoubleArrayList.
+	 */
+	public DoubleArrayList() {
+		this.clear();
+	}
+
+	/**
+	 * Adds the element to the index specified.
+	 *
+	 * Adding to index {@code size} should be amortized O(1),
+	 * all other adds are O(n).
+	 *
+	 * @param index The index where you want the new element.
+	 * @param data The data to add to the list.
+	 * @throws java.lang.IndexOutOfBoundsException if index is negative
+	 * or index > size
+	 */
+	public void addAtIndex(int index, double data) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Cannot insert data at negative index.");
+		}
+		if(index > size) {
+			throw new IndexOutOfBoundsException("Cannot insert data at index greater than ArrayList size. Index: " + index + ", Size: " + size);
+		}
+		ensureRoom(1);
+		System.arraycopy(backingArray, index, backingArray, index + 1, size - index);
+		backingArray[index] = data;
+		size++;
+	}
+
+	/**
+	 * Add the given data to the front of your array list.
+	 *
+	 * Must be O(n).
+	 *
+	 * @param data The data to add to the list.
+	 */
+	public void addToFront(double data) {
+		addAtIndex(0, data);
+	}
+
+	/**
+	 * Add the given data to the back of your array list.
+	 *
+	 * Must be amortized O(1).
+	 *
+	 * @param data The data to add to the list.
+	 */
+	public void addToBack(double data) {
+		ensureRoom(1);
+		backingArray[size++] = data;
+	}
+
+	/**
+	 * Appends every element of the given array to the back of the list with
+	 * a single copy.
+	 *
+	 * Must be amortized O(k), where k is the length of data.
+	 *
+	 * @param data The data to add to the list.
+	 * @throws java.lang.IllegalArgumentException if data is null
+	 */
+	public void addAll(double[] data) {
+		if(data == null) {
+			throw new IllegalArgumentException("Cannot insert null array into ArrayList.");
+		}
+		ensureRoom(data.length);
+		System.arraycopy(data, 0, backingArray, size, data.length);
+		size += data.length;
+	}
+
+	/**
+	 * Removes and returns the element at index.
+	 *
+	 * This method should be O(1) for index {@code size - 1} and O(n) in
+	 * all other cases.
+	 *
+	 * @param index The index of the element
+	 * @return The value that was formerly at that index.
+	 * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+	 * index >= size
+	 */
+	public double removeAtIndex(int index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Cannot remove data from negative index.");
+		}
+		if(index >= size) {
+			throw new IndexOutOfBoundsException("Cannot remove data from index greater than ArrayList size. Index: " + index + ", Size: " + size);
+		}
+		double removed = backingArray[index];
+		System.arraycopy(backingArray, index + 1, backingArray, index, size - index - 1);
+		size--;
+		return removed;
+	}
+
+	/**
+	 * Remove the first element in the list and return it.
+	 *
+	 * Must be O(n).
+	 *
+	 * @return The data from the front of the list
+	 * @throws java.util.NoSuchElementException if the list is empty
+	 */
+	public double removeFromFront() {
+		if(size == 0) {
+			throw new NoSuchElementException("Cannot remove from empty ArrayList.");
+		}
+		return removeAtIndex(0);
+	}
+
+	/**
+	 * Remove the last element in the list and return it.
+	 *
+	 * Must be O(1).
+	 *
+	 * @return The data from the back of the list
+	 * @throws java.util.NoSuchElementException if the list is empty
+	 */
+	public double removeFromBack() {
+		if(size == 0) {
+			throw new NoSuchElementException("Cannot remove from empty ArrayList.");
+		}
+		return backingArray[--size];
+	}
+
+	/**
+	 * Returns the element at the given index.
+	 *
+	 * Must be O(1).
+	 *
+	 * @param index The index of the element
+	 * @return The data stored at that index.
+	 * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+	 * index >= size
+	 */
+	public double get(int index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Cannot get data from negative index.");
+		}
+		if(index >= size) {
+			throw new IndexOutOfBoundsException("Cannot get data from index greater than ArrayList size. Index: " + index + ", Size: " + size);
+		}
+		return backingArray[index];
+	}
+
+	/**
+	 * Returns a copy of the elements of this list, in order.
+	 *
+	 * Must be O(n).
+	 *
+	 * @return an array of length {@code size} holding the list's elements
+	 */
+	public double[] toArray() {
+		double[] arr = new double[size];
+		System.arraycopy(backingArray, 0, arr, 0, size);
+		return arr;
+	}
+
+	/**
+	 * Return a boolean value representing whether or not the list is empty.
+	 *
+	 * Must be O(1).
+	 *
+	 * @return true if empty; false otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Clear the list. Reset the backing array to a new array of the initial
+	 * capacity.
+	 *
+	 * Must be O(1).
+	 */
+	public void clear() {
+		this.backingArray = new double[INITIAL_CAPACITY];
+		size = 0;
+	}
+
+	/**
+	 * Return the size of the list as an integer.
+	 *
+	 * @return the size of the list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Return the backing array for this list.
+	 *
+	 * For testing purposes only.
+	 *
+	 * @return the backing array for this list
+	 */
+	public double[] getBackingArray() {
+		return backingArray;
+	}
+
+	/**
+	 * Doubles the backing array until it can hold {@code extra} more elements.
+	 *
+	 * @param extra the number of elements about to be added
+	 */
+	private void ensureRoom(int extra) {
+		int needed = size + extra;
+		if(needed <= backingArray.length) {
+			return;
+		}
+		int newLength = backingArray.length;
+		while(newLength < needed) {
+			newLength = newLength > Integer.MAX_VALUE / 2 ? needed : newLength * 2;
+		}
+		double[] newArray = new double[newLength];
+		System.arraycopy(backingArray, 0, newArray, 0, size);
+		backingArray = newArray;
+	}
+}
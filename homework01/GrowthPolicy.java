@@ -0,0 +1,85 @@
+/**
+ * Decides how much larger an ArrayList's backing array becomes when it runs
+ * out of room.
+ *
+ * @author Ishan Arya
+ * @userid iarya3
+ * @GTID 903399427
+ * @version 1.0
+ */
+public interface GrowthPolicy {
+
+	/**
+	 * The policy used when none is given: double the capacity on every regrow.
+	 */
+	GrowthPolicy DOUBLING = multiplicative(2);
+
+	/**
+	 * Returns the capacity to regrow to from the current capacity.
+	 *
+	 * The list will never regrow to less than it needs, so a policy may
+	 * return a value smaller than the current capacity (e.g. for a
+	 * capacity of 0) without breaking anything.
+	 *
+	 * @param currentCapacity the length of the full backing array
+	 * @return the suggested length of the new backing array
+	 */
+	int nextCapacity(int currentCapacity);
+
+	/**
+	 * Grows the capacity by a constant factor.
+	 *
+	 * @param factor the multiplier applied to the current capacity
+	 * @return the policy
+	 * @throws java.lang.IllegalArgumentException if factor is not above 1
+	 */
+	static GrowthPolicy multiplicative(double factor) {
+		if(!(factor > 1)) {
+			throw new IllegalArgumentException("Growth factor must be greater than 1. Factor: " + factor);
+		}
+		return currentCapacity -> clamp((long) Math.ceil(currentCapacity * factor));
+	}
+
+	/**
+	 * Grows the capacity by a constant number of slots.
+	 *
+	 * @param chunk the number of slots added on every regrow
+	 * @return the policy
+	 * @throws java.lang.IllegalArgumentException if chunk is not positive
+	 */
+	static GrowthPolicy additive(int chunk) {
+		if(chunk <= 0) {
+			throw new IllegalArgumentException("Growth chunk must be positive. Chunk: " + chunk);
+		}
+		return currentCapacity -> clamp((long) currentCapacity + chunk);
+	}
+
+	/**
+	 * Grows the capacity by a constant factor, but never by more than
+	 * {@code maxIncrement} slots at once.
+	 *
+	 * @param factor the multiplier applied to the current capacity
+	 * @param maxIncrement the largest number of slots added on one regrow
+	 * @return the policy
+	 * @throws java.lang.IllegalArgumentException if factor is not above 1 or
+	 * maxIncrement is not positive
+	 */
+	static GrowthPolicy capped(double factor, int maxIncrement) {
+		if(maxIncrement <= 0) {
+			throw new IllegalArgumentException("Maximum increment must be positive. Increment: " + maxIncrement);
+		}
+		GrowthPolicy uncapped = multiplicative(factor);
+		return currentCapacity -> Math.min(uncapped.nextCapacity(currentCapacity),
+				clamp((long) currentCapacity + maxIncrement));
+	}
+
+	/**
+	 * Clamps a computed capacity into the range of an array length.
+	 *
+	 * @param capacity the computed capacity
+	 * @return capacity, or {@code Integer.MAX_VALUE} if it overflows an int
+	 */
+	private static int clamp(long capacity) {
+		return (int) Math.min(capacity, Integer.MAX_VALUE);
+	}
+}
@@ -0,0 +1,250 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An ArrayList of fixed-width records stored off-heap in a memory-mapped
+ * file.
+ *
+ * The file holds a small header followed by the records, split into
+ * segments that are each mapped separately. Growing maps one more segment
+ * past the end of the file instead of copying anything, so the list can be
+ * much larger than the heap. Reopening the same file with the same codec
+ * gives back the same list without reading or converting any records.
+ *
+ * @author Ishan Arya
+ * @userid iarya3
+ * @GTID 903399427
+ * @version 1.0
+ */
+public class MappedArrayList<T> implements Closeable {
+
+	/**
+	 * The number of records in each mapped segment of a new file.
+	 */
+	public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 16;
+
+	private static final int MAGIC = 0x31333332;
+	private static final int WIDTH_OFFSET = 4;
+	private static final int RECORDS_PER_SEGMENT_OFFSET = 8;
+	private static final int SIZE_OFFSET = 16;
+	private static final int HEADER_BYTES = 24;
+
+	private final FileChannel channel;
+	private final RecordCodec<T> codec;
+	private final int width;
+	private final int recordsPerSegment;
+	private final MappedByteBuffer header;
+	private final ArrayList<MappedByteBuffer> segments;
+	private long size;
+
+	/**
+	 * Opens the list stored in the given file, creating an empty one if the
+	 * file does not exist or is empty.
+	 *
+	 * @param file the file holding the list
+	 * @param codec reads and writes the records
+	 * @throws java.io.IOException if the file cannot be opened or mapped
+	 * @throws java.lang.IllegalArgumentException if file or codec is null, or
+	 * the file holds a different kind of list
+	 */
+	public MappedArrayList(Path file, RecordCodec<T> codec) throws IOException {
+		this(file, codec, DEFAULT_RECORDS_PER_SEGMENT);
+	}
+
+	/**
+	 * Opens the list stored in the given file, creating an empty one if the
+	 * file does not exist or is empty.
+	 *
+	 * The segment size only applies to new files; an existing file keeps the
+	 * segment size it was created with.
+	 *
+	 * @param file the file holding the list
+	 * @param codec reads and writes the records
+	 * @param recordsPerSegment the number of records in each mapped segment
+	 * @throws java.io.IOException if the file cannot be opened or mapped
+	 * @throws java.lang.IllegalArgumentException if file or codec is null,
+	 * the segment size is not positive or too large to map, or the file holds
+	 * a different kind of list
+	 */
+	public MappedArrayList(Path file, RecordCodec<T> codec, int recordsPerSegment) throws IOException {
+		if(file == null) {
+			throw new IllegalArgumentException("Cannot open MappedArrayList with null file.");
+		}
+		if(codec == null) {
+			throw new IllegalArgumentException("Cannot open MappedArrayList with null codec.");
+		}
+		if(codec.width() <= 0) {
+			throw new IllegalArgumentException("Record width must be positive. Width: " + codec.width());
+		}
+		if(recordsPerSegment <= 0 || (long) recordsPerSegment * codec.width() > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Cannot map segments of " + recordsPerSegment + " records of width " + codec.width() + ".");
+		}
+		this.codec = codec;
+		this.width = codec.width();
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			boolean isNew = channel.size() == 0;
+			this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+			header.order(ByteOrder.LITTLE_ENDIAN);
+			if(isNew) {
+				header.putInt(0, MAGIC);
+				header.putInt(WIDTH_OFFSET, width);
+				header.putInt(RECORDS_PER_SEGMENT_OFFSET, recordsPerSegment);
+				header.putLong(SIZE_OFFSET, 0);
+			} else if(header.getInt(0) != MAGIC) {
+				throw new IllegalArgumentException("File is not a MappedArrayList: " + file);
+			} else if(header.getInt(WIDTH_OFFSET) != width) {
+				throw new IllegalArgumentException("File holds records of width " + header.getInt(WIDTH_OFFSET) + ", but codec writes width " + width + ".");
+			}
+			this.recordsPerSegment = header.getInt(RECORDS_PER_SEGMENT_OFFSET);
+			this.size = header.getLong(SIZE_OFFSET);
+			this.segments = new ArrayList<>();
+			while((long) segments.size() * this.recordsPerSegment < size) {
+				mapSegment();
+			}
+		} catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Add the given data to the back of the list.
+	 *
+	 * Must be amortized O(1).
+	 *
+	 * @param data The data to add to the list.
+	 * @throws java.lang.IllegalArgumentException if data is null
+	 * @throws java.io.UncheckedIOException if a new segment cannot be mapped
+	 */
+	public void addToBack(T data) {
+		if(data == null) {
+			throw new IllegalArgumentException("Cannot insert null data into MappedArrayList.");
+		}
+		int segment = (int) (size / recordsPerSegment);
+		if(segment == segments.size()) {
+			try {
+				mapSegment();
+			} catch(IOException e) {
+				throw new UncheckedIOException("Cannot grow MappedArrayList.", e);
+			}
+		}
+		codec.write(segments.get(segment), (int) (size % recordsPerSegment) * width, data);
+		size++;
+		header.putLong(SIZE_OFFSET, size);
+	}
+
+	/**
+	 * Remove the last element in the list and return it.
+	 *
+	 * The file is not shrunk.
+	 *
+	 * Must be O(1).
+	 *
+	 * @return The data from the back of the list or null if the list is empty
+	 */
+	public T removeFromBack() {
+		if(size == 0) {
+			return null;
+		}
+		T removed = get(size - 1);
+		size--;
+		header.putLong(SIZE_OFFSET, size);
+		return removed;
+	}
+
+	/**
+	 * Returns the element at the given index.
+	 *
+	 * Must be O(1).
+	 *
+	 * @param index The index of the element
+	 * @return The data stored at that index.
+	 * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+	 * index >= size
+	 */
+	public T get(long index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Cannot get data from negative index.");
+		}
+		if(index >= size) {
+			throw new IndexOutOfBoundsException("Cannot get data from index greater than MappedArrayList size. Index: " + index + ", Size: " + size);
+		}
+		return codec.read(segments.get((int) (index / recordsPerSegment)), (int) (index % recordsPerSegment) * width);
+	}
+
+	/**
+	 * Return a boolean value representing whether or not the list is empty.
+	 *
+	 * Must be O(1).
+	 *
+	 * @return true if empty; false otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Clear the list. The file keeps its length and its segments stay
+	 * mapped, so refilling the list does not need to grow it again.
+	 *
+	 * Must be O(1).
+	 */
+	public void clear() {
+		size = 0;
+		header.putLong(SIZE_OFFSET, 0);
+	}
+
+	/**
+	 * Return the size of the list.
+	 *
+	 * @return the size of the list
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Writes any changes to the list through to the storage device.
+	 *
+	 * Must be O(number of segments).
+	 */
+	public void force() {
+		for(MappedByteBuffer segment : segments) {
+			segment.force();
+		}
+		header.force();
+	}
+
+	/**
+	 * Writes any changes through to the storage device and closes the file.
+	 * The list must not be used afterwards.
+	 *
+	 * @throws java.io.IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		force();
+		channel.close();
+	}
+
+	/**
+	 * Maps the segment after the last mapped one, extending the file if
+	 * necessary.
+	 *
+	 * @throws java.io.IOException if the segment cannot be mapped
+	 */
+	private void mapSegment() throws IOException {
+		long segmentBytes = (long) recordsPerSegment * width;
+		long position = HEADER_BYTES + segments.size() * segmentBytes;
+		MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, position, segmentBytes);
+		segment.order(ByteOrder.LITTLE_ENDIAN);
+		segments.addToBack(segment);
+	}
+}
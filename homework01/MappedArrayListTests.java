@@ -0,0 +1,121 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for MappedArrayList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class MappedArrayListTests {
+
+    private Path file;
+
+    public static final int TIMEOUT = 2000;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("mapped", ".list");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddGetRemove() throws IOException {
+        try (MappedArrayList<Long> list = new MappedArrayList<>(file,
+                RecordCodec.LONG, 4)) {
+            for (long i = 0; i < 10; i++) {
+                list.addToBack(i << 33);
+            }
+            assertEquals(10, list.size());
+            assertEquals((Long) (7L << 33), list.get(7));
+            assertEquals((Long) (9L << 33), list.removeFromBack());
+            assertEquals(9, list.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReopen() throws IOException {
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                RecordCodec.INT, 3)) {
+            for (int i = 0; i < 10; i++) {
+                list.addToBack(i);
+            }
+        }
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                RecordCodec.INT)) {
+            assertEquals(10, list.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals((Integer) i, list.get(i));
+            }
+            list.addToBack(10);
+            assertEquals((Integer) 10, list.get(10));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStructCodec() throws IOException {
+        RecordCodec<int[]> pair = new RecordCodec<int[]>() {
+            @Override
+            public int width() {
+                return 8;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, int[] data) {
+                buffer.putInt(offset, data[0]);
+                buffer.putInt(offset + 4, data[1]);
+            }
+
+            @Override
+            public int[] read(ByteBuffer buffer, int offset) {
+                return new int[] {buffer.getInt(offset),
+                    buffer.getInt(offset + 4)};
+            }
+        };
+        try (MappedArrayList<int[]> list = new MappedArrayList<>(file,
+                pair)) {
+            list.addToBack(new int[] {1, 2});
+            list.addToBack(new int[] {3, 4});
+            assertArrayEquals(new int[] {3, 4}, list.get(1));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClearAndEmpty() throws IOException {
+        try (MappedArrayList<Double> list = new MappedArrayList<>(file,
+                RecordCodec.DOUBLE)) {
+            assertTrue(list.isEmpty());
+            assertNull(list.removeFromBack());
+            list.addToBack(1.5);
+            list.clear();
+            assertTrue(list.isEmpty());
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testWrongCodec() throws IOException {
+        new MappedArrayList<>(file, RecordCodec.LONG).close();
+        new MappedArrayList<>(file, RecordCodec.INT).close();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() throws IOException {
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                RecordCodec.INT)) {
+            list.addToBack(1);
+            list.get(1);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the primitive-specialized ArrayLists.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class PrimitiveArrayListTests {
+
+    public static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testIntAddAndRemove() {
+        IntArrayList list = new IntArrayList();
+        list.addToBack(1);
+        list.addToBack(3);
+        list.addToFront(0);
+        list.addAtIndex(2, 2); // 0 1 2 3
+
+        assertEquals(4, list.size());
+        assertArrayEquals(new int[] {0, 1, 2, 3}, list.toArray());
+
+        assertEquals(2, list.removeAtIndex(2));
+        assertEquals(0, list.removeFromFront());
+        assertEquals(3, list.removeFromBack());
+        assertEquals(1, list.get(0));
+        assertEquals(1, list.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntRegrow() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < IntArrayList.INITIAL_CAPACITY + 1; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(IntArrayList.INITIAL_CAPACITY * 2,
+                list.getBackingArray().length);
+        assertEquals(IntArrayList.INITIAL_CAPACITY, list.get(
+                IntArrayList.INITIAL_CAPACITY));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntAddAll() {
+        IntArrayList list = new IntArrayList();
+        list.addToBack(-1);
+        int[] data = new int[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+        }
+        list.addAll(data);
+
+        assertEquals(101, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(99, list.get(100));
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testIntRemoveFromEmpty() {
+        new IntArrayList().removeFromBack();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testIntGetOutOfBounds() {
+        IntArrayList list = new IntArrayList();
+        list.addToBack(5);
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLong() {
+        LongArrayList list = new LongArrayList();
+        list.addAll(new long[] {1L << 40, 2L << 40});
+        list.addToFront(7L);
+        assertArrayEquals(new long[] {7L, 1L << 40, 2L << 40},
+                list.toArray());
+        assertEquals(2L << 40, list.removeFromBack());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDouble() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addToBack(0.5);
+        list.addAtIndex(0, 0.25);
+        assertArrayEquals(new double[] {0.25, 0.5}, list.toArray(), 0);
+        assertEquals(0.25, list.removeFromFront(), 0);
+        assertTrue(!list.isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Reads and writes fixed-width records for a {@link MappedArrayList}.
+ *
+ * Every record written by a codec must take exactly {@link #width()} bytes.
+ * Implement this interface to store small structs; the built-in codecs cover
+ * single ints, longs and doubles.
+ *
+ * @author Ishan Arya
+ * @userid iarya3
+ * @GTID 903399427
+ * @version 1.0
+ */
+public interface RecordCodec<T> {
+
+	/**
+	 * Stores each Integer as a 4 byte int.
+	 */
+	RecordCodec<Integer> INT = new RecordCodec<Integer>() {
+		@Override
+		public int width() {
+			return Integer.BYTES;
+		}
+
+		@Override
+		public void write(ByteBuffer buffer, int offset, Integer data) {
+			buffer.putInt(offset, data);
+		}
+
+		@Override
+		public Integer read(ByteBuffer buffer, int offset) {
+			return buffer.getInt(offset);
+		}
+	};
+
+	/**
+	 * Stores each Long as an 8 byte long.
+	 */
+	RecordCodec<Long> LONG = new RecordCodec<Long>() {
+		@Override
+		public int width() {
+			return Long.BYTES;
+		}
+
+		@Override
+		public void write(ByteBuffer buffer, int offset, Long data) {
+			buffer.putLong(offset, data);
+		}
+
+		@Override
+		public Long read(ByteBuffer buffer, int offset) {
+			return buffer.getLong(offset);
+		}
+	};
+
+	/**
+	 * Stores each Double as an 8 byte double.
+	 */
+	RecordCodec<Double> DOUBLE = new RecordCodec<Double>() {
+		@Override
+		public int width() {
+			return Double.BYTES;
+		}
+
+		@Override
+		public void write(ByteBuffer buffer, int offset, Double data) {
+			buffer.putDouble(offset, data);
+		}
+
+		@Override
+		public Double read(ByteBuffer buffer, int offset) {
+			return buffer.getDouble(offset);
+		}
+	};
+
+	/**
+	 * Returns the number of bytes every record takes.
+	 *
+	 * @return the width of a record in bytes, always positive
+	 */
+	int width();
+
+	/**
+	 * Writes a record into the buffer.
+	 *
+	 * @param buffer the buffer to write into
+	 * @param offset the absolute position of the first byte of the record
+	 * @param data the data to write, never null
+	 */
+	void write(ByteBuffer buffer, int offset, T data);
+
+	/**
+	 * Reads a record from the buffer.
+	 *
+	 * @param buffer the buffer to read from
+	 * @param offset the absolute position of the first byte of the record
+	 * @return the data stored in the record
+	 */
+	T read(ByteBuffer buffer, int offset);
+}
@@ -1,3 +1,9 @@
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
 /**
  * Your implementation of a non-circular doubly linked list with a tail pointer.
  *
@@ -7,10 +13,26 @@
  * @GTID 903399427
  */
 public class DoublyLinkedList<T> {
-    // Do not add new instance variables or modify existing ones.
     private LinkedListNode<T> head;
     private LinkedListNode<T> tail;
     private int size;
+    private int modCount;
+
+    // The last node reached by index and its index, so that accesses near
+    // the previous one can walk from there. fingerNode is null when unset.
+    private LinkedListNode<T> fingerNode;
+    private int fingerIndex;
+
+    // Maps each value in the list to a chain of the nodes holding it, in
+    // list order, and each node to its link in that chain. Both are null if
+    // the occurrence index is turned off.
+    private Map<T, OccurrenceChain<T>> occurrences;
+    private Map<LinkedListNode<T>, Occurrence<T>> occurrenceOf;
+
+    // Removed nodes kept for reuse, linked through their next pointers.
+    private LinkedListNode<T> freeNodes;
+    private int freeNodeCount;
+    private int nodePoolCapacity;
 
     /**
      * Adds the element to the index specified.
@@ -50,10 +72,15 @@ public class DoublyLinkedList<T> {
 
         LinkedListNode<T> previousNode = this.getNodeAtIndex(index - 1);
         LinkedListNode<T> nextNode = previousNode.getNext();
-        LinkedListNode<T> newNode = new LinkedListNode<>(previousNode, data, nextNode);
+        LinkedListNode<T> newNode = obtainNode(previousNode, data, nextNode);
+        addOccurrence(newNode);
         previousNode.setNext(newNode);
         nextNode.setPrevious(newNode);
+        if (fingerIndex >= index) {
+            fingerIndex++;
+        }
         size++;
+        modCount++;
     }
 
     /**
@@ -73,10 +100,13 @@ public class DoublyLinkedList<T> {
             return;
         }
 
-        LinkedListNode<T> newNode = new LinkedListNode<>(null, data, head);
+        LinkedListNode<T> newNode = obtainNode(null, data, head);
+        addOccurrence(newNode);
         head.setPrevious(newNode);
         head = newNode;
+        fingerIndex++;
         size++;
+        modCount++;
     }
 
     /**
@@ -95,10 +125,12 @@ public class DoublyLinkedList<T> {
             this.addToEmptyList(data);
             return;
         }
-        LinkedListNode<T> newNode = new LinkedListNode<>(tail, data, null);
+        LinkedListNode<T> newNode = obtainNode(tail, data, null);
+        addOccurrence(newNode);
         tail.setNext(newNode);
         tail = newNode;
         size++;
+        modCount++;
     }
 
     /**
@@ -108,10 +140,12 @@ public class DoublyLinkedList<T> {
      */
     private void addToEmptyList(T data) {
         if (head == null) {
-            LinkedListNode<T> newNode = new LinkedListNode<>(data);
+            LinkedListNode<T> newNode = obtainNode(null, data, null);
+            addOccurrence(newNode);
             head = newNode;
             tail = newNode;
             size++;
+            modCount++;
         }
     }
 
@@ -144,12 +178,15 @@ public class DoublyLinkedList<T> {
         LinkedListNode<T> removedNode = this.getNodeAtIndex(index);
         LinkedListNode<T> previousNode = removedNode.getPrevious();
         LinkedListNode<T> nextNode = removedNode.getNext();
+        removeOccurrence(removedNode);
 
         previousNode.setNext(nextNode);
         nextNode.setPrevious(previousNode);
+        fingerNode = nextNode;
         size--;
+        modCount++;
 
-        return removedNode.getData();
+        return recycle(removedNode);
 
     }
 
@@ -166,7 +203,13 @@ public class DoublyLinkedList<T> {
             return null;
         }
         LinkedListNode<T> removedNode = head;
+        removeOccurrence(removedNode);
+        if (fingerNode == removedNode) {
+            fingerNode = null;
+        }
+        fingerIndex--;
         size--;
+        modCount++;
         if (head == tail) {
             head = null;
             tail = null;
@@ -175,7 +218,7 @@ public class DoublyLinkedList<T> {
             head.setPrevious(null);
         }
 
-        return removedNode.getData();
+        return recycle(removedNode);
 
 
     }
@@ -193,7 +236,12 @@ public class DoublyLinkedList<T> {
             return null;
         }
         LinkedListNode<T> removedNode = tail;
+        removeOccurrence(removedNode);
+        if (fingerNode == removedNode) {
+            fingerNode = null;
+        }
         size--;
+        modCount++;
         if (head == tail) {
             head = null;
             tail = null;
@@ -202,14 +250,162 @@ public class DoublyLinkedList<T> {
             tail.setNext(null);
         }
 
-        return removedNode.getData();
+        return recycle(removedNode);
+    }
+
+    /**
+     * Sets how many removed nodes the list keeps for reuse.
+     * <p>
+     * With a capacity above 0, removing an element puts its node on a free
+     * list (until the free list holds capacity nodes) and adding an element
+     * takes a node from the free list before allocating a new one, so a list
+     * whose size stays within the pool's reach adds and removes without
+     * allocating. Recycled nodes have their data cleared. The capacity is 0
+     * by default.
+     * <p>
+     * Must be O(1) when growing the pool and O(number of nodes dropped) when
+     * shrinking it.
+     *
+     * @param capacity the largest number of free nodes to keep
+     * @throws java.lang.IllegalArgumentException if capacity is negative
+     */
+    public void setNodePoolCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Node pool capacity cannot be negative: capacity=" + capacity);
+        }
+        nodePoolCapacity = capacity;
+        while (freeNodeCount > capacity) {
+            freeNodes = freeNodes.getNext();
+            freeNodeCount--;
+        }
+    }
+
+    /**
+     * Turns the occurrence index on or off.
+     * <p>
+     * While it is on, the list keeps a hash map from each value to a chain
+     * of the nodes holding it, in list order, updated on every add and
+     * remove. That makes {@link #contains(Object)} and
+     * {@link #removeFirstOccurrence(Object)} O(1) expected, and lets the
+     * occurrence methods go straight to the first or last node holding a
+     * value instead of comparing every element. It costs a map entry per
+     * distinct value and two per element, so it is off by default.
+     * <p>
+     * Adding at either end stays O(1). Adding a value that is already in the
+     * list anywhere else walks out from the new node, in both directions at
+     * once, to the nearest node with an equal value or the nearer end of the
+     * list, to find its place in the chain.
+     * <p>
+     * Turning it on is O(n); turning it off is O(1).
+     *
+     * @param enabled whether to keep the occurrence index
+     */
+    public void setOccurrenceIndex(boolean enabled) {
+        if (!enabled) {
+            occurrences = null;
+            occurrenceOf = null;
+        } else if (occurrences == null) {
+            occurrences = new HashMap<>();
+            occurrenceOf = new HashMap<>();
+            for (LinkedListNode<T> node = head; node != null; node = node.getNext()) {
+                appendOccurrence(node);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the passed in data is in the list.
+     * <p>
+     * O(1) expected with the occurrence index on, O(n) otherwise.
+     *
+     * @param data the data to search for
+     * @return true if the data is in the list; false otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot search for null data");
+        }
+        if (occurrences != null) {
+            return occurrences.containsKey(data);
+        }
+        return firstOccurrence(data) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the passed in data in the
+     * list or -1 if it is not in the list.
+     * <p>
+     * If data is in the head, should be O(1). With the occurrence index on,
+     * data that is not in the list is O(1) expected, and otherwise this is
+     * O(distance from the first occurrence to the nearer end), since only
+     * counting its index needs a walk. Without the index, O(n).
+     *
+     * @param data the data to search for
+     * @return the index of the first occurrence or -1 if not in the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public int firstOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot search for null data");
+        }
+        if (occurrences != null) {
+            OccurrenceChain<T> chain = occurrences.get(data);
+            return chain == null ? -1 : indexOfNode(chain.first.node);
+        }
+        LinkedListNode<T> currentNode = head;
+        for (int i = 0; i < size; i++) {
+            if (currentNode.getData().equals(data)) {
+                return i;
+            }
+            currentNode = currentNode.getNext();
+        }
+
+        return -1;
+    }
+
+    /**
+     * Removes the first occurrence of the passed in data from the list.
+     * <p>
+     * With the occurrence index on, O(1) expected, however many times the
+     * data appears. Without the index, O(n).
+     *
+     * @param data the data to remove
+     * @return true if the data was found and removed; false otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean removeFirstOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot remove null data");
+        }
+        LinkedListNode<T> removedNode;
+        if (occurrences != null) {
+            OccurrenceChain<T> chain = occurrences.get(data);
+            if (chain == null) {
+                return false;
+            }
+            removedNode = chain.first.node;
+        } else {
+            removedNode = head;
+            while (removedNode != null && !removedNode.getData().equals(data)) {
+                removedNode = removedNode.getNext();
+            }
+            if (removedNode == null) {
+                return false;
+            }
+        }
+        unlink(removedNode);
+        return true;
     }
 
     /**
      * Returns the index of the last occurrence of the passed in data in the
      * list or -1 if it is not in the list.
      * <p>
-     * If data is in the tail, should be O(1). In all other cases, O(n).
+     * If data is in the tail, should be O(1). With the occurrence index on,
+     * data that is not in the list is O(1) expected, and otherwise this is
+     * O(distance from the last occurrence to the nearer end), since only
+     * counting its index needs a walk. Without the index, O(n).
      *
      * @param data the data to search for
      * @return the index of the last occurrence or -1 if not in the list
@@ -219,6 +415,10 @@ public class DoublyLinkedList<T> {
         if (data == null) {
             throw new IllegalArgumentException("Cannot insert null data");
         }
+        if (occurrences != null) {
+            OccurrenceChain<T> chain = occurrences.get(data);
+            return chain == null ? -1 : indexOfNode(chain.last.node);
+        }
         LinkedListNode<T> currentNode = tail;
         for (int i = size - 1; i >= 0; i--) {
             if (currentNode.getData().equals(data)) {
@@ -291,7 +491,146 @@ public class DoublyLinkedList<T> {
     public void clear() {
         head = null;
         tail = null;
+        fingerNode = null;
+        if (occurrences != null) {
+            occurrences = new HashMap<>();
+            occurrenceOf = new HashMap<>();
+        }
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Moves the elements of another list from index {@code fromIndex},
+     * inclusive, to {@code toIndex}, exclusive, into this list, so that the
+     * first of them ends up at {@code atIndex}.
+     * <p>
+     * The nodes themselves are relinked rather than copied, so apart from
+     * finding the ends of the range and the insertion point this is O(1).
+     * If either list has its occurrence index on, the moved nodes are
+     * re-indexed, which is O(toIndex - fromIndex) when moving to either end
+     * of this list. Moving into the middle of an indexed list also walks out
+     * from the range once per distinct moved value already in this list, as
+     * an add there would.
+     *
+     * @param other     the list to move the elements out of
+     * @param fromIndex the index in other of the first element to move
+     * @param toIndex   the index in other after the last element to move
+     * @param atIndex   the index in this list for the first moved element
+     * @throws java.lang.IllegalArgumentException  if other is null or is this
+     *                                             list
+     * @throws java.lang.IndexOutOfBoundsException if fromIndex < 0,
+     *                                             toIndex > other's size,
+     *                                             fromIndex > toIndex,
+     *                                             atIndex < 0 or
+     *                                             atIndex > size
+     */
+    public void splice(DoublyLinkedList<T> other, int fromIndex, int toIndex, int atIndex) {
+        if (other == null) {
+            throw new IllegalArgumentException("Cannot splice from a null list");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        }
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (toIndex > other.size) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than size: toIndex=" + toIndex + "; size=" + other.size);
+        }
+        if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range cannot start after it ends: fromIndex=" + fromIndex + "; toIndex=" + toIndex);
+        }
+        if (atIndex < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (atIndex > size) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than size: atIndex=" + atIndex + "; size=" + size);
+        }
+        moveRange(other, fromIndex, toIndex, atIndex);
+    }
+
+    /**
+     * Splits the list in two at the given index. This list keeps the elements
+     * before index, and the rest are moved, in order, into a new list.
+     * <p>
+     * The nodes are relinked rather than copied, so apart from finding the
+     * node at index this is O(1). The new list has the occurrence index on if
+     * this list does, in which case this is O(size - index).
+     *
+     * @param index the index of the first element to move to the new list
+     * @return a new list holding the elements from index onwards
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     *                                             index > size
+     */
+    public DoublyLinkedList<T> split(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (index > size) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than size: index=" + index + "; size=" + size);
+        }
+        DoublyLinkedList<T> back = new DoublyLinkedList<>();
+        back.setOccurrenceIndex(occurrences != null);
+        back.moveRange(this, index, size, 0);
+        return back;
+    }
+
+    /**
+     * Moves every element of another list, in order, to the back of this list,
+     * leaving the other list empty.
+     * <p>
+     * Must be O(1), unless either list has its occurrence index on, in which
+     * case it is O(size of other).
+     *
+     * @param other the list to append
+     * @throws java.lang.IllegalArgumentException if other is null or is this
+     *                                            list
+     */
+    public void concat(DoublyLinkedList<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Cannot concatenate a null list");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot concatenate a list onto itself");
+        }
+        moveRange(other, 0, other.size, size);
+    }
+
+    /**
+     * Returns a cursor over the list, positioned before the head.
+     *
+     * @return a list iterator starting at the head of the list
+     */
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a cursor over the list, positioned before the element at the
+     * given index. Positioning the cursor is O(n), as in get, but once it is
+     * placed, moving it one step and adding, removing or setting at its
+     * position are all O(1), so a single pass of edits over the list is O(n)
+     * in total.
+     * <p>
+     * The cursor is fail-fast: if the list is changed other than through the
+     * cursor itself, its next call throws a ConcurrentModificationException.
+     * {@code set} only replaces the data in the node at the cursor, so it is
+     * not a structural change and does not invalidate other cursors.
+     *
+     * @param index the index of the element the first call to next returns
+     * @return a list iterator starting before index
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     *                                             index > size
+     */
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (index > size) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than size: index=" + index + "; size=" + size);
+        }
+        return new Cursor(index);
     }
 
     /**
@@ -336,8 +675,8 @@ public class DoublyLinkedList<T> {
 
     /**
      * Optimally returns the node at the given index
-     * Starts at tail if index is greater than size/2
-     * Starts at head if index is less than size/2
+     * Starts at whichever of the head, the tail and the node last reached by
+     * index is closest, and remembers the result for the next call
      *
      * @param index index of node
      * @return node at given index
@@ -357,19 +696,499 @@ public class DoublyLinkedList<T> {
         if (index == size - 1) {
             return tail;
         }
-        int middle = size / 2;
-
         LinkedListNode<T> requestedNode = head;
-        if (index >= middle) {
+        int currentIndex = 0;
+        if (size - 1 - index < index) {
             requestedNode = tail;
-            for (int i = 0; i < size - 1 - index; i++) {
-                requestedNode = requestedNode.getPrevious();
+            currentIndex = size - 1;
+        }
+        if (fingerNode != null
+                && Math.abs(fingerIndex - index) < Math.abs(currentIndex - index)) {
+            requestedNode = fingerNode;
+            currentIndex = fingerIndex;
+        }
+        for (; currentIndex < index; currentIndex++) {
+            requestedNode = requestedNode.getNext();
+        }
+        for (; currentIndex > index; currentIndex--) {
+            requestedNode = requestedNode.getPrevious();
+        }
+        fingerNode = requestedNode;
+        fingerIndex = index;
+        return requestedNode;
+    }
+
+    /**
+     * Links a new node holding data into the list before the given node, or
+     * at the back if the given node is null.
+     *
+     * @param data      the data for the new node
+     * @param successor the node to insert before, or null for the back
+     * @return the new node
+     */
+    private LinkedListNode<T> linkBefore(T data, LinkedListNode<T> successor) {
+        LinkedListNode<T> predecessor = successor == null ? tail : successor.getPrevious();
+        LinkedListNode<T> newNode = obtainNode(predecessor, data, successor);
+        addOccurrence(newNode);
+        if (predecessor == null) {
+            head = newNode;
+        } else {
+            predecessor.setNext(newNode);
+        }
+        if (successor == null) {
+            tail = newNode;
+        } else {
+            successor.setPrevious(newNode);
+        }
+        fingerNode = null;
+        size++;
+        modCount++;
+        return newNode;
+    }
+
+    /**
+     * Unlinks the given node from the list.
+     *
+     * @param node the node to remove
+     */
+    private void unlink(LinkedListNode<T> node) {
+        LinkedListNode<T> previousNode = node.getPrevious();
+        LinkedListNode<T> nextNode = node.getNext();
+        removeOccurrence(node);
+        if (previousNode == null) {
+            head = nextNode;
+        } else {
+            previousNode.setNext(nextNode);
+        }
+        if (nextNode == null) {
+            tail = previousNode;
+        } else {
+            nextNode.setPrevious(previousNode);
+        }
+        fingerNode = null;
+        size--;
+        modCount++;
+        recycle(node);
+    }
+
+    /**
+     * Unlinks the nodes in [from, to) from source and relinks them into this
+     * list so that the first one is at index at. Assumes the arguments are
+     * valid and source is not this list.
+     *
+     * @param source the list to move the nodes out of
+     * @param from   the index in source of the first node to move
+     * @param to     the index in source after the last node to move
+     * @param at     the index in this list for the first moved node
+     */
+    private void moveRange(DoublyLinkedList<T> source, int from, int to, int at) {
+        int count = to - from;
+        if (count == 0) {
+            return;
+        }
+        LinkedListNode<T> first = source.getNodeAtIndex(from);
+        LinkedListNode<T> last = source.getNodeAtIndex(to - 1);
+
+        LinkedListNode<T> before = first.getPrevious();
+        LinkedListNode<T> after = last.getNext();
+        if (before == null) {
+            source.head = after;
+        } else {
+            before.setNext(after);
+        }
+        if (after == null) {
+            source.tail = before;
+        } else {
+            after.setPrevious(before);
+        }
+        source.fingerNode = null;
+        source.size -= count;
+        source.modCount++;
+
+        LinkedListNode<T> successor = at == size ? null : getNodeAtIndex(at);
+        LinkedListNode<T> predecessor = successor == null ? tail : successor.getPrevious();
+        first.setPrevious(predecessor);
+        last.setNext(successor);
+        if (predecessor == null) {
+            head = first;
+        } else {
+            predecessor.setNext(first);
+        }
+        if (successor == null) {
+            tail = last;
+        } else {
+            successor.setPrevious(last);
+        }
+        fingerNode = null;
+        size += count;
+        modCount++;
+
+        if (source.occurrences != null) {
+            for (LinkedListNode<T> node = first; node != successor; node = node.getNext()) {
+                source.removeOccurrence(node);
             }
-        } else if (index < middle) {
-            for (int i = 0; i < index; i++) {
-                requestedNode = requestedNode.getNext();
+        }
+        if (occurrences != null) {
+            // Moved nodes with the same value stay in order, so only the
+            // first of each value needs placing among this list's nodes.
+            Map<T, Occurrence<T>> lastMoved = new HashMap<>();
+            for (LinkedListNode<T> node = first; node != successor; node = node.getNext()) {
+                Occurrence<T> previousMoved = lastMoved.get(node.getData());
+                Occurrence<T> occurrence = previousMoved == null
+                        ? placeOccurrence(node, predecessor, successor)
+                        : insertOccurrenceAfter(previousMoved, node);
+                lastMoved.put(node.getData(), occurrence);
             }
         }
-        return requestedNode;
+    }
+
+    /**
+     * Returns a node holding the given data and links, reusing a free node if
+     * there is one.
+     *
+     * @param previous the previous node in the list
+     * @param data     the data for the node
+     * @param next     the next node in the list
+     * @return the node
+     */
+    private LinkedListNode<T> obtainNode(LinkedListNode<T> previous, T data, LinkedListNode<T> next) {
+        if (freeNodes == null) {
+            return new LinkedListNode<>(previous, data, next);
+        }
+        LinkedListNode<T> node = freeNodes;
+        freeNodes = node.getNext();
+        freeNodeCount--;
+        node.setPrevious(previous);
+        node.setData(data);
+        node.setNext(next);
+        return node;
+    }
+
+    /**
+     * Puts a node that has been removed from the list on the free list, if
+     * there is room, and clears it.
+     *
+     * @param node the removed node
+     * @return the data the node held
+     */
+    private T recycle(LinkedListNode<T> node) {
+        T data = node.getData();
+        if (freeNodeCount < nodePoolCapacity) {
+            node.setData(null);
+            node.setPrevious(null);
+            node.setNext(freeNodes);
+            freeNodes = node;
+            freeNodeCount++;
+        }
+        return data;
+    }
+
+    /**
+     * Records the node in the occurrence index, if it is on.
+     *
+     * @param node the node just linked into the list, whose own links are
+     *             already set
+     */
+    private void addOccurrence(LinkedListNode<T> node) {
+        if (occurrences != null) {
+            placeOccurrence(node, node.getPrevious(), node.getNext());
+        }
+    }
+
+    /**
+     * Adds a node to the end of the chain for its value. Only valid when the
+     * node comes after every other node with an equal value.
+     *
+     * @param node the node to record
+     */
+    private void appendOccurrence(LinkedListNode<T> node) {
+        OccurrenceChain<T> chain = occurrences.get(node.getData());
+        if (chain == null) {
+            placeOccurrence(node, null, null);
+        } else {
+            insertOccurrenceAfter(chain.last, node);
+        }
+    }
+
+    /**
+     * Links a node into the chain for its value. The place is found by
+     * walking back from {@code before} and forward from {@code after}, one
+     * step each in turn, until a node with an equal value or an end of the
+     * list is reached. Nodes strictly between before and after are never
+     * checked, so none of them may be in the chain yet.
+     *
+     * @param node   the node to record
+     * @param before the nearest node before node to check, or null
+     * @param after  the nearest node after node to check, or null
+     * @return the node's link in the chain
+     */
+    private Occurrence<T> placeOccurrence(LinkedListNode<T> node, LinkedListNode<T> before,
+                                          LinkedListNode<T> after) {
+        T data = node.getData();
+        OccurrenceChain<T> chain = occurrences.get(data);
+        if (chain == null) {
+            Occurrence<T> occurrence = new Occurrence<>(node);
+            occurrences.put(data, new OccurrenceChain<>(occurrence));
+            occurrenceOf.put(node, occurrence);
+            return occurrence;
+        }
+        while (true) {
+            if (before == null) {
+                return insertOccurrenceBefore(chain.first, node);
+            }
+            if (before.getData().equals(data)) {
+                return insertOccurrenceAfter(occurrenceOf.get(before), node);
+            }
+            if (after == null) {
+                return insertOccurrenceAfter(chain.last, node);
+            }
+            if (after.getData().equals(data)) {
+                return insertOccurrenceBefore(occurrenceOf.get(after), node);
+            }
+            before = before.getPrevious();
+            after = after.getNext();
+        }
+    }
+
+    /**
+     * Links a node into its value's chain right after another link.
+     *
+     * @param previous the link to follow
+     * @param node     the node to record
+     * @return the node's link in the chain
+     */
+    private Occurrence<T> insertOccurrenceAfter(Occurrence<T> previous, LinkedListNode<T> node) {
+        Occurrence<T> occurrence = new Occurrence<>(node);
+        occurrence.previous = previous;
+        occurrence.next = previous.next;
+        if (previous.next == null) {
+            occurrences.get(node.getData()).last = occurrence;
+        } else {
+            previous.next.previous = occurrence;
+        }
+        previous.next = occurrence;
+        occurrenceOf.put(node, occurrence);
+        return occurrence;
+    }
+
+    /**
+     * Links a node into its value's chain right before another link.
+     *
+     * @param next the link to precede
+     * @param node the node to record
+     * @return the node's link in the chain
+     */
+    private Occurrence<T> insertOccurrenceBefore(Occurrence<T> next, LinkedListNode<T> node) {
+        Occurrence<T> occurrence = new Occurrence<>(node);
+        occurrence.next = next;
+        occurrence.previous = next.previous;
+        if (next.previous == null) {
+            occurrences.get(node.getData()).first = occurrence;
+        } else {
+            next.previous.next = occurrence;
+        }
+        next.previous = occurrence;
+        occurrenceOf.put(node, occurrence);
+        return occurrence;
+    }
+
+    /**
+     * Removes the node from the occurrence index, if it is on.
+     *
+     * @param node the node about to be unlinked from the list
+     */
+    private void removeOccurrence(LinkedListNode<T> node) {
+        if (occurrences != null) {
+            Occurrence<T> occurrence = occurrenceOf.remove(node);
+            OccurrenceChain<T> chain = occurrences.get(node.getData());
+            if (occurrence.previous == null) {
+                chain.first = occurrence.next;
+            } else {
+                occurrence.previous.next = occurrence.next;
+            }
+            if (occurrence.next == null) {
+                chain.last = occurrence.previous;
+            } else {
+                occurrence.next.previous = occurrence.previous;
+            }
+            if (chain.first == null) {
+                occurrences.remove(node.getData());
+            }
+        }
+    }
+
+    /**
+     * Finds the index of a node in the list by walking from it towards both
+     * ends at once until one end is reached.
+     *
+     * @param node a node in the list
+     * @return the index of the node
+     */
+    private int indexOfNode(LinkedListNode<T> node) {
+        LinkedListNode<T> forward = node;
+        LinkedListNode<T> backward = node;
+        int steps = 0;
+        while (true) {
+            if (backward.getPrevious() == null) {
+                return steps;
+            }
+            if (forward.getNext() == null) {
+                return size - 1 - steps;
+            }
+            backward = backward.getPrevious();
+            forward = forward.getNext();
+            steps++;
+        }
+    }
+
+    /**
+     * Bidirectional cursor over the list that edits at its position in O(1).
+     */
+    private class Cursor implements ListIterator<T> {
+        private LinkedListNode<T> nextNode;
+        private LinkedListNode<T> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        /**
+         * Creates a cursor positioned before the element at index.
+         *
+         * @param index the index of the element next returns, 0 <= index <= size
+         */
+        Cursor(int index) {
+            nextNode = index == size ? null : getNodeAtIndex(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (nextIndex >= size) {
+                throw new NoSuchElementException("No elements after the cursor.");
+            }
+            lastReturned = nextNode;
+            nextNode = nextNode.getNext();
+            nextIndex++;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (nextIndex <= 0) {
+                throw new NoSuchElementException("No elements before the cursor.");
+            }
+            nextNode = nextNode == null ? tail : nextNode.getPrevious();
+            lastReturned = nextNode;
+            nextIndex--;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to remove: call next or previous first.");
+            }
+            if (lastReturned == nextNode) {
+                nextNode = nextNode.getNext();
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T data) {
+            if (data == null) {
+                throw new IllegalArgumentException("Cannot insert null data");
+            }
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to set: call next or previous first.");
+            }
+            removeOccurrence(lastReturned);
+            lastReturned.setData(data);
+            addOccurrence(lastReturned);
+        }
+
+        @Override
+        public void add(T data) {
+            if (data == null) {
+                throw new IllegalArgumentException("Cannot insert null data");
+            }
+            checkForComodification();
+            linkBefore(data, nextNode);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was changed other than through this cursor.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("List was modified outside of this cursor.");
+            }
+        }
+    }
+
+    /**
+     * A node's link in the chain of nodes holding the same value.
+     */
+    private static final class Occurrence<T> {
+        private final LinkedListNode<T> node;
+        private Occurrence<T> previous;
+        private Occurrence<T> next;
+
+        /**
+         * Creates an unlinked Occurrence.
+         *
+         * @param node the node it stands for
+         */
+        Occurrence(LinkedListNode<T> node) {
+            this.node = node;
+        }
+    }
+
+    /**
+     * The ends of the chain of nodes holding one value, in list order.
+     */
+    private static final class OccurrenceChain<T> {
+        private Occurrence<T> first;
+        private Occurrence<T> last;
+
+        /**
+         * Creates a chain holding a single link.
+         *
+         * @param occurrence the only link
+         */
+        OccurrenceChain(Occurrence<T> occurrence) {
+            first = occurrence;
+            last = occurrence;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the cursor over DoublyLinkedList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class DoublyLinkedListCursorTest {
+    private DoublyLinkedList<String> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        list.addToBack("a");
+        list.addToBack("b");
+        list.addToBack("c");
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWalkBothWays() {
+        ListIterator<String> cursor = list.listIterator(1);
+        assertEquals("b", cursor.next());
+        assertEquals("c", cursor.next());
+        assertFalse(cursor.hasNext());
+        assertEquals("c", cursor.previous());
+        assertEquals("b", cursor.previous());
+        assertEquals("a", cursor.previous());
+        assertFalse(cursor.hasPrevious());
+        assertEquals(0, cursor.nextIndex());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtCursor() {
+        ListIterator<String> cursor = list.listIterator();
+        cursor.add("front");
+        cursor.next();
+        cursor.add("ab");
+        while (cursor.hasNext()) {
+            cursor.next();
+        }
+        cursor.add("back");
+
+        assertArrayEquals(new Object[] {"front", "a", "ab", "b", "c", "back"},
+                list.toArray());
+        assertEquals(6, list.size());
+        assertEquals("front", list.getHead().getData());
+        assertEquals("back", list.getTail().getData());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveAtCursor() {
+        ListIterator<String> cursor = list.listIterator();
+        while (cursor.hasNext()) {
+            if (!cursor.next().equals("b")) {
+                cursor.remove();
+            }
+        }
+        assertEquals(1, list.size());
+        assertSame(list.getHead(), list.getTail());
+        assertEquals("b", list.getHead().getData());
+
+        cursor.previous();
+        cursor.remove();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSetAtCursor() {
+        ListIterator<String> cursor = list.listIterator(3);
+        cursor.previous();
+        cursor.set("C");
+        cursor.previous();
+        cursor.set("B");
+        assertEquals("B", cursor.next());
+        assertArrayEquals(new Object[] {"a", "B", "C"}, list.toArray());
+        assertEquals("C", list.getTail().getData());
+    }
+
+    @Test(timeout = 1000)
+    public void testLinearEditPass() {
+        DoublyLinkedList<Integer> numbers = new DoublyLinkedList<>();
+        for (int i = 0; i < 100000; i++) {
+            numbers.addToBack(i);
+        }
+        ListIterator<Integer> cursor = numbers.listIterator();
+        while (cursor.hasNext()) {
+            int data = cursor.next();
+            if (data % 2 == 0) {
+                cursor.remove();
+            } else {
+                cursor.add(-data);
+            }
+        }
+        assertEquals(100000, numbers.size());
+        assertEquals((Integer) 1, numbers.get(0));
+        assertEquals((Integer) (-1), numbers.get(1));
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testFailFast() {
+        ListIterator<String> cursor = list.listIterator();
+        cursor.next();
+        list.addToFront("z");
+        cursor.next();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testRemoveTwice() {
+        ListIterator<String> cursor = list.listIterator();
+        cursor.next();
+        cursor.remove();
+        cursor.remove();
+    }
+}
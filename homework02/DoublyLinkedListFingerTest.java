@@ -0,0 +1,80 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that DoublyLinkedList stays correct while it reuses the node it last
+ * reached by index.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class DoublyLinkedListFingerTest {
+    private DoublyLinkedList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClusteredAccess() {
+        for (int i = 0; i < 100000; i++) {
+            list.addToBack(i);
+        }
+        for (int i = 0; i < 100000; i++) {
+            assertEquals((Integer) (50000 + i % 50), list.get(50000 + i % 50));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFingerShiftsWithEnds() {
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i);
+        }
+        assertEquals((Integer) 5, list.get(5));
+        list.addToFront(-1);
+        assertEquals((Integer) 5, list.get(6));
+        list.removeFromFront();
+        list.removeFromFront();
+        assertEquals((Integer) 5, list.get(4));
+        list.addAtIndex(1, 100);
+        assertEquals((Integer) 5, list.get(5));
+        list.removeAtIndex(5);
+        assertEquals((Integer) 6, list.get(5));
+    }
+
+    @Test(timeout = 2000)
+    public void testMatchesJavaList() {
+        Random random = new Random(1332);
+        List<Integer> oracle = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            int op = random.nextInt(7);
+            if (op < 2 || oracle.isEmpty()) {
+                int index = random.nextInt(oracle.size() + 1);
+                list.addAtIndex(index, i);
+                oracle.add(index, i);
+            } else if (op == 2) {
+                int index = random.nextInt(oracle.size());
+                assertEquals(oracle.remove(index), list.removeAtIndex(index));
+            } else if (op == 3) {
+                assertEquals(oracle.remove(0), list.removeFromFront());
+            } else if (op == 4) {
+                list.addToFront(i);
+                oracle.add(0, i);
+            } else {
+                int index = random.nextInt(oracle.size());
+                assertEquals(oracle.get(index), list.get(index));
+            }
+        }
+        assertArrayEquals(oracle.toArray(), list.toArray());
+    }
+}
@@ -0,0 +1,239 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the occurrence methods of DoublyLinkedList, with and without the
+ * occurrence index.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class DoublyLinkedListOccurrenceTest {
+    private DoublyLinkedList<String> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        list.addToBack("a");
+        list.addToBack("b");
+        list.addToBack("a");
+        list.addToBack("c");
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWithoutIndex() {
+        checkOccurrences();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWithIndex() {
+        list.setOccurrenceIndex(true);
+        checkOccurrences();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIndexFollowsCursorEdits() {
+        list.setOccurrenceIndex(true);
+        ListIterator<String> cursor = list.listIterator();
+        cursor.next();
+        cursor.set("z");
+        cursor.add("y");
+        assertFalse(list.contains("d"));
+        assertEquals(0, list.firstOccurrence("z"));
+        assertEquals(1, list.lastOccurrence("y"));
+        assertEquals(3, list.firstOccurrence("a"));
+
+        list.clear();
+        assertFalse(list.contains("a"));
+        list.addToFront("a");
+        assertEquals(0, list.lastOccurrence("a"));
+    }
+
+    @Test(timeout = 2000)
+    public void testIndexMatchesJavaList() {
+        DoublyLinkedList<Integer> numbers = new DoublyLinkedList<>();
+        numbers.setOccurrenceIndex(true);
+        List<Integer> oracle = new ArrayList<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(200);
+            switch (random.nextInt(5)) {
+            case 0:
+                int index = random.nextInt(oracle.size() + 1);
+                numbers.addAtIndex(index, value);
+                oracle.add(index, value);
+                break;
+            case 1:
+                if (!oracle.isEmpty()) {
+                    index = random.nextInt(oracle.size());
+                    assertEquals(oracle.remove(index),
+                            numbers.removeAtIndex(index));
+                }
+                break;
+            case 2:
+                assertEquals(oracle.remove((Integer) value),
+                        numbers.removeFirstOccurrence(value));
+                break;
+            case 3:
+                assertEquals(oracle.indexOf(value),
+                        numbers.firstOccurrence(value));
+                assertEquals(oracle.contains(value), numbers.contains(value));
+                break;
+            default:
+                assertEquals(oracle.lastIndexOf(value),
+                        numbers.lastOccurrence(value));
+                break;
+            }
+        }
+    }
+
+    @Test(timeout = 2000)
+    public void testRemoveDuplicateIsConstantTime() {
+        DoublyLinkedList<Key> keys = new DoublyLinkedList<>();
+        keys.setOccurrenceIndex(true);
+        int n = 2000;
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < n; i++) {
+                keys.addToBack(new Key(i));
+            }
+        }
+        // Each first occurrence is deep in the list and has a duplicate, so
+        // a scan would compare O(n^2) elements in total.
+        Key.comparisons = 0;
+        for (int i = n - 1; i >= 0; i--) {
+            assertTrue(keys.removeFirstOccurrence(new Key(i)));
+        }
+        assertTrue("comparisons: " + Key.comparisons,
+                Key.comparisons <= 2 * n);
+        assertEquals(n, keys.size());
+        assertEquals(0, keys.getHead().getData().value);
+        assertEquals(n - 1, keys.firstOccurrence(new Key(n - 1)));
+    }
+
+    @Test(timeout = 2000)
+    public void testIndexFollowsSpliceAndCursor() {
+        DoublyLinkedList<Integer> numbers = new DoublyLinkedList<>();
+        DoublyLinkedList<Integer> other = new DoublyLinkedList<>();
+        numbers.setOccurrenceIndex(true);
+        other.setOccurrenceIndex(true);
+        List<Integer> oracle = new ArrayList<>();
+        List<Integer> otherOracle = new ArrayList<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 3000; i++) {
+            int value = random.nextInt(20);
+            switch (random.nextInt(6)) {
+            case 0:
+                int index = random.nextInt(oracle.size() + 1);
+                numbers.addAtIndex(index, value);
+                oracle.add(index, value);
+                break;
+            case 1:
+                index = random.nextInt(otherOracle.size() + 1);
+                other.addAtIndex(index, value);
+                otherOracle.add(index, value);
+                break;
+            case 2:
+                int from = random.nextInt(otherOracle.size() + 1);
+                int to = from + random.nextInt(otherOracle.size() - from + 1);
+                int at = random.nextInt(oracle.size() + 1);
+                numbers.splice(other, from, to, at);
+                List<Integer> range = otherOracle.subList(from, to);
+                oracle.addAll(at, range);
+                range.clear();
+                break;
+            case 3:
+                if (!oracle.isEmpty()) {
+                    index = random.nextInt(oracle.size());
+                    ListIterator<Integer> cursor = numbers.listIterator(index);
+                    cursor.next();
+                    cursor.set(value);
+                    oracle.set(index, value);
+                }
+                break;
+            case 4:
+                assertEquals(oracle.remove((Integer) value),
+                        numbers.removeFirstOccurrence(value));
+                break;
+            default:
+                assertEquals(otherOracle.remove((Integer) value),
+                        other.removeFirstOccurrence(value));
+                break;
+            }
+            if (oracle.size() > 200) {
+                int index = random.nextInt(oracle.size());
+                other.concat(numbers.split(index));
+                List<Integer> back = oracle.subList(index, oracle.size());
+                otherOracle.addAll(back);
+                back.clear();
+            }
+            for (int v = 0; v < 20; v += 3) {
+                assertEquals(oracle.indexOf(v), numbers.firstOccurrence(v));
+                assertEquals(oracle.lastIndexOf(v), numbers.lastOccurrence(v));
+                assertEquals(otherOracle.indexOf(v), other.firstOccurrence(v));
+                assertEquals(otherOracle.lastIndexOf(v),
+                        other.lastOccurrence(v));
+            }
+        }
+    }
+
+    /**
+     * An int wrapper that counts calls to equals.
+     */
+    private static final class Key {
+        private static int comparisons;
+        private final int value;
+
+        /**
+         * Creates a Key.
+         *
+         * @param value the value to wrap
+         */
+        Key(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            comparisons++;
+            return o instanceof Key && ((Key) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+    }
+
+    /**
+     * Checks the occurrence methods against the list from setUp.
+     */
+    private void checkOccurrences() {
+        assertTrue(list.contains("c"));
+        assertFalse(list.contains("d"));
+        assertEquals(0, list.firstOccurrence("a"));
+        assertEquals(2, list.lastOccurrence("a"));
+        assertEquals(1, list.firstOccurrence("b"));
+        assertEquals(1, list.lastOccurrence("b"));
+        assertEquals(-1, list.lastOccurrence("d"));
+
+        assertTrue(list.removeFirstOccurrence("a"));
+        assertEquals(1, list.firstOccurrence("a"));
+        assertTrue(list.removeFirstOccurrence("a"));
+        assertFalse(list.removeFirstOccurrence("a"));
+        assertFalse(list.contains("a"));
+        assertEquals(2, list.size());
+        assertEquals("b", list.getHead().getData());
+        assertEquals("c", list.getTail().getData());
+    }
+}
@@ -0,0 +1,105 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ListIterator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for node reuse in DoublyLinkedList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class DoublyLinkedListPoolTest {
+    private DoublyLinkedList<String> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        list.setNodePoolCapacity(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNodesAreReused() {
+        list.addToBack("a");
+        list.addToBack("b");
+        list.addToBack("c");
+        LinkedListNode<String> middle = list.getHead().getNext();
+        assertEquals("b", list.removeAtIndex(1));
+        assertNull(middle.getData());
+
+        list.addAtIndex(1, "x");
+        assertSame(middle, list.getHead().getNext());
+        assertArrayEquals(new Object[] {"a", "x", "c"}, list.toArray());
+        assertSame(list.getTail(), middle.getNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSteadyStateReuse() {
+        for (int i = 0; i < 4; i++) {
+            list.addToBack("s" + i);
+        }
+        LinkedListNode<String> tail = list.getTail();
+        for (int i = 0; i < 1000; i++) {
+            list.removeFromBack();
+            list.addToBack("t" + i);
+            assertSame(tail, list.getTail());
+        }
+        assertEquals("t999", list.get(3));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCursorWithPool() {
+        list.setOccurrenceIndex(true);
+        list.addToBack("a");
+        list.addToBack("b");
+        list.addToBack("c");
+        ListIterator<String> cursor = list.listIterator();
+        cursor.next();
+        cursor.set("z");
+        cursor.next();
+        cursor.remove();
+        cursor.add("y");
+        assertArrayEquals(new Object[] {"z", "y", "c"}, list.toArray());
+        assertEquals(1, list.firstOccurrence("y"));
+        assertEquals(-1, list.firstOccurrence("b"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCursorSetIsNotStructural() {
+        list.setOccurrenceIndex(true);
+        list.addToBack("a");
+        list.addToBack("b");
+        list.addToBack("c");
+        LinkedListNode<String> middle = list.getHead().getNext();
+        ListIterator<String> reader = list.listIterator();
+        ListIterator<String> writer = list.listIterator(1);
+        assertEquals("a", reader.next());
+        writer.next();
+        writer.set("z");
+        assertSame(middle, list.getHead().getNext());
+        assertEquals("z", reader.next());
+        assertEquals("c", reader.next());
+        assertEquals(1, list.firstOccurrence("z"));
+        assertEquals(-1, list.firstOccurrence("b"));
+        writer.remove();
+        assertArrayEquals(new Object[] {"a", "c"}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShrinkPool() {
+        list.addToBack("a");
+        list.removeFromBack();
+        list.setNodePoolCapacity(0);
+        LinkedListNode<String> before = list.getHead();
+        assertNull(before);
+        list.addToBack("b");
+        assertEquals("b", list.getHead().getData());
+    }
+}
@@ -0,0 +1,114 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for splice, split and concat on DoublyLinkedList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class DoublyLinkedListSpliceTest {
+    private DoublyLinkedList<Integer> first;
+    private DoublyLinkedList<Integer> second;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        first = new DoublyLinkedList<>();
+        second = new DoublyLinkedList<>();
+        for (int i = 0; i < 5; i++) {
+            first.addToBack(i);        // 0 1 2 3 4
+            second.addToBack(10 + i);  // 10 11 12 13 14
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpliceMiddle() {
+        LinkedListNode<Integer> moved = second.getHead().getNext();
+        first.splice(second, 1, 3, 2);
+
+        assertArrayEquals(new Object[] {0, 1, 11, 12, 2, 3, 4},
+                first.toArray());
+        assertArrayEquals(new Object[] {10, 13, 14}, second.toArray());
+        assertEquals(7, first.size());
+        assertEquals(3, second.size());
+        assertSame(moved, first.getHead().getNext().getNext());
+        assertEquals((Integer) 12, first.get(3));
+        assertEquals((Integer) 13, second.get(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpliceEnds() {
+        first.splice(second, 0, 1, 0);
+        first.splice(second, 3, 4, first.size());
+        assertArrayEquals(new Object[] {10, 0, 1, 2, 3, 4, 14},
+                first.toArray());
+        assertArrayEquals(new Object[] {11, 12, 13}, second.toArray());
+        assertNull(first.getHead().getPrevious());
+        assertNull(second.getTail().getNext());
+        assertEquals((Integer) 13, second.getTail().getData());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSplit() {
+        DoublyLinkedList<Integer> back = first.split(2);
+        assertArrayEquals(new Object[] {0, 1}, first.toArray());
+        assertArrayEquals(new Object[] {2, 3, 4}, back.toArray());
+        assertNull(first.getTail().getNext());
+        assertNull(back.getHead().getPrevious());
+
+        DoublyLinkedList<Integer> empty = first.split(2);
+        assertTrue(empty.isEmpty());
+        DoublyLinkedList<Integer> all = first.split(0);
+        assertTrue(first.isEmpty());
+        assertNull(first.getTail());
+        assertEquals(2, all.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcat() {
+        first.concat(second);
+        assertEquals(10, first.size());
+        assertTrue(second.isEmpty());
+        assertNull(second.getHead());
+        assertEquals((Integer) 14, first.getTail().getData());
+        assertEquals((Integer) 10, first.get(5));
+
+        second.concat(first);
+        assertEquals(10, second.size());
+        assertTrue(first.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOccurrenceIndexFollowsNodes() {
+        first.setOccurrenceIndex(true);
+        second.setOccurrenceIndex(true);
+        first.splice(second, 0, 2, 5);
+        assertTrue(first.contains(11));
+        assertFalse(second.contains(11));
+        assertEquals(6, first.lastOccurrence(11));
+
+        DoublyLinkedList<Integer> back = first.split(4);
+        assertTrue(back.contains(4));
+        assertFalse(first.contains(4));
+        assertEquals(0, back.firstOccurrence(4));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testSpliceSelf() {
+        first.splice(first, 0, 1, 0);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testSpliceBadRange() {
+        first.splice(second, 3, 6, 0);
+    }
+}
@@ -52,6 +52,15 @@ public class LinkedListNode<T> {
         return data;
     }
 
+    /**
+     * Sets the data stored in the node.
+     *
+     * @param data The new data for this node.
+     */
+    public void setData(T data) {
+        this.data = data;
+    }
+
     /**
      * Gets the next node.
      *
@@ -0,0 +1,423 @@
+/**
+ * An unrolled, non-circular doubly linked list with a tail pointer.
+ * <p>
+ * Each node holds up to {@code nodeCapacity} elements in an array, so there
+ * is one node (and one pair of links) per block of elements instead of per
+ * element, and traversals walk far fewer nodes. The list has the same
+ * operations as {@link DoublyLinkedList}.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ * @userid iarya3
+ * @GTID 903399427
+ */
+public class UnrolledDoublyLinkedList<T> {
+
+    /**
+     * The number of elements each node holds when none is given.
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private final int nodeCapacity;
+    private UnrolledListNode<T> head;
+    private UnrolledListNode<T> tail;
+    private int size;
+
+    /**
+     * Constructs a new list with nodes of {@code DEFAULT_NODE_CAPACITY}.
+     */
+    public UnrolledDoublyLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs a new list with nodes of the given capacity.
+     *
+     * @param nodeCapacity the number of elements each node holds, at least 2
+     * @throws java.lang.IllegalArgumentException if nodeCapacity < 2
+     */
+    public UnrolledDoublyLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at least 2: nodeCapacity=" + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Adds the element to the index specified.
+     * <p>
+     * Adding to indices 0 and {@code size} should be O(1), all other cases are
+     * O(n / nodeCapacity + nodeCapacity).
+     *
+     * @param index the requested index for the new element
+     * @param data  the data for the new element
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     *                                             index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data");
+        }
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (index > size) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than size: index=" + index + "; size=" + size);
+        }
+
+        if (index == 0) {
+            addToFront(data);
+            return;
+        }
+        if (index == size) {
+            addToBack(data);
+            return;
+        }
+        Position<T> position = find(index);
+        UnrolledListNode<T> node = position.node;
+        int offset = position.offset;
+        if (node.isFull()) {
+            UnrolledListNode<T> newNode = insertNodeAfter(node);
+            node.moveTo(nodeCapacity / 2, newNode);
+            if (offset > node.getCount()) {
+                node = newNode;
+                offset -= nodeCapacity / 2;
+            }
+        }
+        node.insert(offset, data);
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null.
+     */
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data");
+        }
+        if (head == null || head.isFull()) {
+            UnrolledListNode<T> newNode = new UnrolledListNode<>(nodeCapacity);
+            newNode.setNext(head);
+            if (head == null) {
+                tail = newNode;
+            } else {
+                head.setPrevious(newNode);
+            }
+            head = newNode;
+        }
+        head.insert(0, data);
+        size++;
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws java.lang.IllegalArgumentException if data is null.
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data");
+        }
+        if (tail == null || tail.isFull()) {
+            insertNodeAfter(tail);
+        }
+        tail.insert(tail.getCount(), data);
+        size++;
+    }
+
+    /**
+     * Removes and returns the element from the index specified.
+     * <p>
+     * Removing from index 0 and {@code size - 1} should be O(1), all other
+     * cases are O(n / nodeCapacity + nodeCapacity).
+     *
+     * @param index the requested index to be removed
+     * @return the data formerly located at index
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     *                                             index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than or equal to size: index=" + index + "; size=" + size);
+        }
+
+        Position<T> position = find(index);
+        UnrolledListNode<T> node = position.node;
+        T removed = node.remove(position.offset);
+        size--;
+
+        if (node.getCount() == 0) {
+            unlink(node);
+        } else if (node.getCount() < nodeCapacity / 2 && node.getNext() != null
+                && node.getCount() + node.getNext().getCount() <= nodeCapacity) {
+            UnrolledListNode<T> next = node.getNext();
+            next.moveTo(0, node);
+            unlink(next);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes and returns the element at the front of the list. If the list is
+     * empty, return {@code null}.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @return the data formerly located at the front, null if empty list
+     */
+    public T removeFromFront() {
+        if (head == null) {
+            return null;
+        }
+        T removed = head.remove(0);
+        size--;
+        if (head.getCount() == 0) {
+            unlink(head);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes and returns the element at the back of the list. If the list is
+     * empty, return {@code null}.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @return the data formerly located at the back, null if empty list
+     */
+    public T removeFromBack() {
+        if (tail == null) {
+            return null;
+        }
+        T removed = tail.remove(tail.getCount() - 1);
+        size--;
+        if (tail.getCount() == 0) {
+            unlink(tail);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the passed in data in the
+     * list or -1 if it is not in the list.
+     * <p>
+     * If data is in the tail, should be O(1). In all other cases, O(n).
+     *
+     * @param data the data to search for
+     * @return the index of the last occurrence or -1 if not in the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public int lastOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot search for null data");
+        }
+        int nodeStart = size;
+        for (UnrolledListNode<T> node = tail; node != null; node = node.getPrevious()) {
+            nodeStart -= node.getCount();
+            for (int i = node.getCount() - 1; i >= 0; i--) {
+                if (node.get(i).equals(data)) {
+                    return nodeStart + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     * <p>
+     * Getting the head and tail should be O(1), all other cases are
+     * O(n / nodeCapacity).
+     *
+     * @param index the index of the requested element
+     * @return the object stored at index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     *                                             index >= size
+     */
+    public T get(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index cannot be greater than or equal to size: index=" + index + "; size=" + size);
+        }
+
+        Position<T> position = find(index);
+        return position.node.get(position.offset);
+    }
+
+    /**
+     * Returns an array representation of the linked list.
+     * <p>
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length {@code size} holding all of the objects in
+     * this list in the same order from head to tail
+     */
+    public Object[] toArray() {
+        Object[] arr = new Object[size];
+        int position = 0;
+        for (UnrolledListNode<T> node = head; node != null; node = node.getNext()) {
+            node.copyTo(arr, position);
+            position += node.getCount();
+        }
+        return arr;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    /**
+     * Clears the list of all data and resets the size.
+     * <p>
+     * Must be O(1) for all cases.
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     * <p>
+     * Runs in O(1) for all cases.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the head node of the linked list.
+     * Normally, you would not do this, but it's necessary for testing purposes.
+     *
+     * @return node at the head of the linked list
+     */
+    public UnrolledListNode<T> getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the tail node of the linked list.
+     * Normally, you would not do this, but it's necessary for testing purposes.
+     *
+     * @return node at the tail of the linked list
+     */
+    public UnrolledListNode<T> getTail() {
+        return tail;
+    }
+
+    /**
+     * Finds the node holding the element at the given index and that
+     * element's offset in the node. Starts at the tail if index is in the
+     * back half of the list, and at the head otherwise.
+     *
+     * @param index index of the element, 0 <= index < size
+     * @return the node and offset of the element
+     */
+    private Position<T> find(int index) {
+        if (index >= size / 2) {
+            int nodeStart = size - tail.getCount();
+            UnrolledListNode<T> node = tail;
+            while (index < nodeStart) {
+                node = node.getPrevious();
+                nodeStart -= node.getCount();
+            }
+            return new Position<>(node, index - nodeStart);
+        }
+        int nodeStart = 0;
+        UnrolledListNode<T> node = head;
+        while (index >= nodeStart + node.getCount()) {
+            nodeStart += node.getCount();
+            node = node.getNext();
+        }
+        return new Position<>(node, index - nodeStart);
+    }
+
+    /**
+     * Links a new, empty node into the list after the given node, or as the
+     * only node if the given node is null.
+     *
+     * @param node the node to insert after, or null if the list is empty
+     * @return the new node
+     */
+    private UnrolledListNode<T> insertNodeAfter(UnrolledListNode<T> node) {
+        UnrolledListNode<T> newNode = new UnrolledListNode<>(nodeCapacity);
+        if (node == null) {
+            head = newNode;
+            tail = newNode;
+            return newNode;
+        }
+        UnrolledListNode<T> next = node.getNext();
+        newNode.setPrevious(node);
+        newNode.setNext(next);
+        node.setNext(newNode);
+        if (next == null) {
+            tail = newNode;
+        } else {
+            next.setPrevious(newNode);
+        }
+        return newNode;
+    }
+
+    /**
+     * Unlinks the given node from the list.
+     *
+     * @param node the node to remove
+     */
+    private void unlink(UnrolledListNode<T> node) {
+        UnrolledListNode<T> previous = node.getPrevious();
+        UnrolledListNode<T> next = node.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+    }
+
+    /**
+     * A node in the list and an offset within it.
+     */
+    private static class Position<T> {
+        private final UnrolledListNode<T> node;
+        private final int offset;
+
+        /**
+         * Creates a new Position.
+         *
+         * @param node   the node
+         * @param offset the offset within the node
+         */
+        Position(UnrolledListNode<T> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+}
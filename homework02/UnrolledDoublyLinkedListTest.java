@@ -0,0 +1,112 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for UnrolledDoublyLinkedList.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class UnrolledDoublyLinkedListTest {
+    private UnrolledDoublyLinkedList<Integer> list;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        list = new UnrolledDoublyLinkedList<>(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddFillsNodes() {
+        for (int i = 0; i < 9; i++) {
+            list.addToBack(i);
+        }
+        assertEquals(9, list.size());
+        assertEquals(4, list.getHead().getCount());
+        assertEquals(1, list.getTail().getCount());
+        assertSame(list.getTail(), list.getHead().getNext().getNext());
+        assertArrayEquals(new Object[] {0, 1, 2, 3, 4, 5, 6, 7, 8},
+                list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddSplitsFullNode() {
+        for (int i = 0; i < 4; i++) {
+            list.addToBack(i);
+        }
+        list.addAtIndex(3, 100);
+        assertArrayEquals(new Object[] {0, 1, 2, 100, 3}, list.toArray());
+        assertEquals(2, list.getHead().getCount());
+        assertEquals(3, list.getTail().getCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveMergesNodes() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i); // [0 1 2 3] [4 5]
+        }
+        list.removeAtIndex(1);
+        list.removeAtIndex(1);
+        assertEquals(2, list.getHead().getCount());
+        list.removeAtIndex(1);
+        assertSame(list.getHead(), list.getTail());
+        assertArrayEquals(new Object[] {0, 4, 5}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmpty() {
+        assertTrue(list.isEmpty());
+        assertNull(list.removeFromFront());
+        assertNull(list.removeFromBack());
+        list.addToFront(1);
+        assertEquals((Integer) 1, list.removeFromBack());
+        assertTrue(list.isEmpty());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLastOccurrence() {
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i % 3);
+        }
+        assertEquals(8, list.lastOccurrence(2));
+        assertEquals(9, list.lastOccurrence(0));
+        assertEquals(-1, list.lastOccurrence(5));
+    }
+
+    @Test(timeout = 1000)
+    public void testMatchesJavaList() {
+        Random random = new Random(1332);
+        List<Integer> oracle = new LinkedList<>();
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(6);
+            if (op < 3 || oracle.isEmpty()) {
+                int index = random.nextInt(oracle.size() + 1);
+                list.addAtIndex(index, i);
+                oracle.add(index, i);
+            } else if (op == 3) {
+                int index = random.nextInt(oracle.size());
+                assertEquals(oracle.remove(index), list.removeAtIndex(index));
+            } else if (op == 4) {
+                assertEquals(oracle.remove(0), list.removeFromFront());
+            } else {
+                int index = random.nextInt(oracle.size());
+                assertEquals(oracle.get(index), list.get(index));
+            }
+            assertEquals(oracle.size(), list.size());
+        }
+        assertArrayEquals(oracle.toArray(), list.toArray());
+    }
+}
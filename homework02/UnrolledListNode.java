@@ -0,0 +1,157 @@
+/**
+ * Node class used for implementing the UnrolledDoublyLinkedList. Each node
+ * holds a small array of elements instead of a single one.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ * @userid iarya3
+ * @GTID 903399427
+ */
+public class UnrolledListNode<T> {
+    private final Object[] elements;
+    private int count;
+    private UnrolledListNode<T> previous;
+    private UnrolledListNode<T> next;
+
+    /**
+     * Creates a new, empty UnrolledListNode.
+     *
+     * @param capacity The number of elements the node can hold.
+     */
+    public UnrolledListNode(int capacity) {
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Gets the element at the given offset in this node.
+     *
+     * @param offset The offset of the element, less than the count.
+     * @return The element at that offset.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int offset) {
+        return (T) elements[offset];
+    }
+
+    /**
+     * Inserts an element at the given offset, shifting the later elements in
+     * this node up by one. The node must not be full.
+     *
+     * @param offset The offset for the new element, at most the count.
+     * @param data The data to insert.
+     */
+    public void insert(int offset, T data) {
+        System.arraycopy(elements, offset, elements, offset + 1, count - offset);
+        elements[offset] = data;
+        count++;
+    }
+
+    /**
+     * Removes the element at the given offset, shifting the later elements in
+     * this node down by one.
+     *
+     * @param offset The offset of the element, less than the count.
+     * @return The removed element.
+     */
+    public T remove(int offset) {
+        T removed = get(offset);
+        System.arraycopy(elements, offset + 1, elements, offset, count - offset - 1);
+        elements[--count] = null;
+        return removed;
+    }
+
+    /**
+     * Moves the elements from the given offset onwards to the end of another
+     * node, which must have room for them.
+     *
+     * @param offset The offset of the first element to move.
+     * @param destination The node to append the elements to.
+     */
+    public void moveTo(int offset, UnrolledListNode<T> destination) {
+        int moved = count - offset;
+        System.arraycopy(elements, offset, destination.elements, destination.count, moved);
+        destination.count += moved;
+        for (int i = offset; i < count; i++) {
+            elements[i] = null;
+        }
+        count = offset;
+    }
+
+    /**
+     * Copies this node's elements into an array.
+     *
+     * @param destination The array to copy into.
+     * @param position The index in the array for the first element.
+     */
+    public void copyTo(Object[] destination, int position) {
+        System.arraycopy(elements, 0, destination, position, count);
+    }
+
+    /**
+     * Gets the number of elements in the node.
+     *
+     * @return The number of elements in the node.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets whether the node has no room for another element.
+     *
+     * @return true if the node is full; false otherwise
+     */
+    public boolean isFull() {
+        return count == elements.length;
+    }
+
+    /**
+     * Gets the number of elements the node can hold.
+     *
+     * @return The capacity of the node.
+     */
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Gets the previous node.
+     *
+     * @return The previous node.
+     */
+    public UnrolledListNode<T> getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Gets the next node.
+     *
+     * @return The next node.
+     */
+    public UnrolledListNode<T> getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the previous node.
+     *
+     * @param previous The new previous node.
+     */
+    public void setPrevious(UnrolledListNode<T> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Sets the next node.
+     *
+     * @param next The new next node.
+     */
+    public void setNext(UnrolledListNode<T> next) {
+        this.next = next;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing " + count + " elements";
+    }
+}
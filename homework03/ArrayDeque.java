@@ -1,32 +1,65 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * Your implementation of an array deque.
+ * <p>
+ * A deque built with {@link #ArrayDeque(boolean)} keeps its capacity a power
+ * of two, so wrapping an index around the backing array is a single AND
+ * instead of a call to {@code mod}.
+ * <p>
+ * The backing array only shrinks on request: through {@link #trimToSize()},
+ * or automatically once {@link #setShrinkOnDrain(boolean)} is turned on.
  *
  * @author Ishan Arya
  * @version 1.0
  * @userid iarya3
  * @GTID 903399427
  */
-public class ArrayDeque<T> {
+public class ArrayDeque<T> implements Iterable<T> {
 
     /**
      * The initial capacity of the ArrayDeque.
      */
     public static final int INITIAL_CAPACITY = 11;
 
-    // Do not add new instance variables.
+    /**
+     * The initial capacity of an ArrayDeque with power-of-two capacities.
+     */
+    public static final int POWER_OF_TWO_INITIAL_CAPACITY = 16;
+
     private T[] backingArray;
     private int front;
     private int back;
     private int size;
+    private final boolean powerOfTwo;
+    private boolean shrinkOnDrain;
+    private int modCount;
 
     /**
      * Constructs a new ArrayDeque with an initial capacity of
      * the {@code INITIAL_CAPACITY} constant above.
      */
     public ArrayDeque() {
-        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this(false);
+    }
+
+    /**
+     * Constructs a new ArrayDeque, optionally with power-of-two capacities.
+     * <p>
+     * With power-of-two capacities the initial capacity is
+     * {@code POWER_OF_TWO_INITIAL_CAPACITY}, and doubling keeps it a power of
+     * two; otherwise it is {@code INITIAL_CAPACITY}.
+     *
+     * @param powerOfTwo whether to keep the capacity a power of two
+     */
+    public ArrayDeque(boolean powerOfTwo) {
+        this.powerOfTwo = powerOfTwo;
+        backingArray = (T[]) new Object[powerOfTwo
+                ? POWER_OF_TWO_INITIAL_CAPACITY : INITIAL_CAPACITY];
         front = 0;
         back = 0;
         size = 0;
@@ -55,11 +88,13 @@ public class ArrayDeque<T> {
         }
         if (size == backingArray.length) {
             regrowArrayAndAddData(data);
+            modCount++;
             return;
         }
-        front = mod(front - 1, backingArray.length);
+        front = wrap(front - 1);
         backingArray[front] = data;
         size++;
+        modCount++;
 
     }
 
@@ -87,39 +122,179 @@ public class ArrayDeque<T> {
             regrowArrayAndAddData(null);
         }
         backingArray[back] = data;
-        back = mod(back + 1, backingArray.length);
+        back = wrap(back + 1);
         size++;
+        modCount++;
 
     }
 
     /**
      * Regrows array to 2x its current length.
      * Adds @param data to front of array before regrowing if provided.
+     * <p>
+     * The elements are unwrapped into the new array with at most two
+     * {@code System.arraycopy} calls.
      *
      * @param data the data to be added to the array.
      *             Should be null if adding to last
      */
     private void regrowArrayAndAddData(T data) {
+        if (data == null) {
+            resize(backingArray.length * 2);
+            return;
+        }
         T[] newArray = (T[]) new Object[backingArray.length * 2];
-        int index = 0;
-        int newSize = size;
-        if (data != null) {
-            newArray[index++] = data;
-            newSize++;
+        newArray[0] = data;
+        copyElementsTo(newArray, 1);
+        size++;
+        front = 0;
+        back = size;
+        backingArray = newArray;
+    }
+
+    /**
+     * Turns shrinking the backing array as the deque drains on or off. It is
+     * off by default.
+     * <p>
+     * While it is on, a removal that leaves the deque less than a quarter
+     * full halves the capacity, but never below the initial capacity. Since
+     * a shrunk deque is still half empty, it has to double in size before it
+     * regrows, and halve again before it shrinks again, so alternating adds
+     * and removes near the threshold do not resize over and over. Removals
+     * stay amortized O(1).
+     *
+     * @param shrinkOnDrain whether removals may shrink the backing array
+     */
+    public void setShrinkOnDrain(boolean shrinkOnDrain) {
+        this.shrinkOnDrain = shrinkOnDrain;
+    }
+
+    /**
+     * Shrinks the backing array to the smallest capacity that holds the
+     * elements, releasing any unused capacity. With power-of-two capacities
+     * that is the smallest power of two that is at least the size;
+     * otherwise it is exactly the size. The capacity never drops below 1.
+     * <p>
+     * This method must run in O(n) time.
+     */
+    public void trimToSize() {
+        int capacity = Math.max(size, 1);
+        if (powerOfTwo) {
+            capacity = Integer.highestOneBit(capacity - 1) << 1;
+            capacity = Math.max(capacity, 1);
         }
-        while (index < newSize) {
-            newArray[index++] = removeFirst();
+        if (capacity < backingArray.length) {
+            resize(capacity);
         }
+    }
+
+    /**
+     * Returns the length of the backing array, the number of elements the
+     * deque can hold before it has to regrow.
+     * <p>
+     * Runs in O(1) for all cases.
+     *
+     * @return the capacity of the deque
+     */
+    public int capacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * Halves the backing array if shrink-on-drain is on and the deque is
+     * less than a quarter full.
+     */
+    private void shrinkIfDrained() {
+        int initialCapacity = powerOfTwo
+                ? POWER_OF_TWO_INITIAL_CAPACITY : INITIAL_CAPACITY;
+        if (shrinkOnDrain && size < backingArray.length / 4
+                && backingArray.length / 2 >= initialCapacity) {
+            resize(backingArray.length / 2);
+        }
+    }
+
+    /**
+     * Moves the elements, in order, to the start of a new backing array of
+     * the given capacity.
+     *
+     * @param capacity the new capacity, at least the size
+     */
+    private void resize(int capacity) {
+        T[] newArray = (T[]) new Object[capacity];
+        copyElementsTo(newArray, 0);
         front = 0;
-        back = newSize;
-        size = newSize;
+        back = size == capacity ? 0 : size;
         backingArray = newArray;
     }
 
+    /**
+     * Copies the elements, in order, into an array with at most two
+     * {@code System.arraycopy} calls, unwrapping them if they wrap around
+     * the end of the backing array.
+     *
+     * @param destination the array to copy into
+     * @param offset      the index in destination for the front element
+     */
+    private void copyElementsTo(T[] destination, int offset) {
+        int frontPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, destination, offset, frontPart);
+        System.arraycopy(backingArray, 0, destination, offset + frontPart,
+                size - frontPart);
+    }
+
+    /**
+     * Converts a position counted from the front of the deque into an index
+     * into the backing array.
+     *
+     * @param index the position, from 0 to the capacity
+     * @return the index into the backing array
+     */
+    private int physicalIndex(int index) {
+        int physical = front + index;
+        if (powerOfTwo) {
+            return physical & (backingArray.length - 1);
+        }
+        return physical < backingArray.length
+                ? physical : physical - backingArray.length;
+    }
+
+    /**
+     * Throws if the position is not that of an element of the deque.
+     *
+     * @param index the position to check
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     *                                             index >= size
+     */
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index cannot be greater than or equal to size: index="
+                            + index + "; size=" + size
+            );
+        }
+    }
+
+    /**
+     * Wraps an index that is at most one step outside the backing array
+     * back into it.
+     *
+     * @param index the index to wrap, from -1 to the capacity
+     * @return the equivalent index into the backing array
+     */
+    private int wrap(int index) {
+        if (powerOfTwo) {
+            return index & (backingArray.length - 1);
+        }
+        return mod(index, backingArray.length);
+    }
+
     /**
      * Removes the data at the front of the deque.
      * <p>
-     * Do not shrink the backing array.
+     * Does not shrink the backing array unless shrink-on-drain is turned on.
      * <p>
      * If the deque becomes empty as a result of this call, you should
      * explicitly reset front and back to the beginning of the array.
@@ -138,19 +313,21 @@ public class ArrayDeque<T> {
         }
         T removedData = backingArray[front];
         backingArray[front] = null;
-        front = mod(front + 1, backingArray.length);
+        front = wrap(front + 1);
         size--;
+        modCount++;
         if (size == 0) {
             front = 0;
             back = 0;
         }
+        shrinkIfDrained();
         return removedData;
     }
 
     /**
      * Removes the data at the back of the deque.
      * <p>
-     * Do not shrink the backing array.
+     * Does not shrink the backing array unless shrink-on-drain is turned on.
      * <p>
      * If the deque becomes empty as a result of this call, you should
      * explicitly reset front and back to the beginning of the array.
@@ -167,17 +344,167 @@ public class ArrayDeque<T> {
         if (size == 0) {
             throw new NoSuchElementException("Cannot remove from empty deque.");
         }
-        back = mod(back - 1, backingArray.length);
+        back = wrap(back - 1);
         T removedData = backingArray[back];
         backingArray[back] = null;
         size--;
+        modCount++;
         if (size == 0) {
             front = 0;
             back = 0;
         }
+        shrinkIfDrained();
         return removedData;
     }
 
+    /**
+     * Adds all of the elements of the array, in order, to the back of the
+     * deque.
+     * <p>
+     * The backing array is regrown at most once, by repeated doubling, and
+     * the elements are copied into the ring with at most two
+     * {@code System.arraycopy} calls. No elements are added if any of them
+     * is null.
+     * <p>
+     * This method must run in amortized O(k) time, where k is the length of
+     * the array.
+     *
+     * @param data the elements to add to the deque
+     * @throws java.lang.IllegalArgumentException if data or any element of it
+     *                                            is null
+     */
+    public void addAll(T[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Cannot insert null array into deque."
+            );
+        }
+        for (T element : data) {
+            if (element == null) {
+                throw new IllegalArgumentException(
+                        "Cannot insert null data into deque."
+                );
+            }
+        }
+        if (data.length == 0) {
+            return;
+        }
+        int capacity = backingArray.length;
+        while (capacity - size < data.length) {
+            capacity *= 2;
+        }
+        if (capacity != backingArray.length) {
+            resize(capacity);
+        }
+        int backPart = Math.min(data.length, capacity - back);
+        System.arraycopy(data, 0, backingArray, back, backPart);
+        System.arraycopy(data, backPart, backingArray, 0,
+                data.length - backPart);
+        size += data.length;
+        back = physicalIndex(size);
+        modCount++;
+    }
+
+    /**
+     * Returns the data at the front of the deque without removing it.
+     * <p>
+     * This method must run in O(1) time.
+     *
+     * @return the data at the front of the deque, or null if it is empty
+     */
+    public T peekFirst() {
+        return backingArray[front];
+    }
+
+    /**
+     * Returns the data at the back of the deque without removing it.
+     * <p>
+     * This method must run in O(1) time.
+     *
+     * @return the data at the back of the deque, or null if it is empty
+     */
+    public T peekLast() {
+        return backingArray[wrap(back - 1)];
+    }
+
+    /**
+     * Returns the data at the given position, counting from the front of
+     * the deque.
+     * <p>
+     * This method must run in O(1) time.
+     *
+     * @param index the position of the data, with the front at 0
+     * @return the data at that position
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     *                                             index >= size
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return backingArray[physicalIndex(index)];
+    }
+
+    /**
+     * Replaces the data at the given position, counting from the front of
+     * the deque.
+     * <p>
+     * This method must run in O(1) time.
+     *
+     * @param index the position of the data, with the front at 0
+     * @param data  the new data
+     * @return the data formerly at that position
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     *                                             index >= size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public T set(int index, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Cannot insert null data into deque."
+            );
+        }
+        checkIndex(index);
+        int physical = physicalIndex(index);
+        T oldData = backingArray[physical];
+        backingArray[physical] = data;
+        return oldData;
+    }
+
+    /**
+     * Returns an iterator over the deque from front to back. The iterator is
+     * fail-fast: it throws ConcurrentModificationException if the deque is
+     * added to or removed from other than through the iterator.
+     *
+     * @return an iterator over the elements of the deque
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayDequeIterator(false);
+    }
+
+    /**
+     * Returns an iterator over the deque from back to front. Like
+     * {@link #iterator()}, it is fail-fast.
+     *
+     * @return an iterator over the elements of the deque in reverse
+     */
+    public Iterator<T> descendingIterator() {
+        return new ArrayDequeIterator(true);
+    }
+
+    /**
+     * Returns a spliterator over the deque from front to back.
+     * <p>
+     * It reports SIZED, SUBSIZED, ORDERED and NONNULL, and splits its range
+     * of positions exactly in half, whether or not the elements wrap around
+     * the end of the backing array. Like the iterator it is fail-fast.
+     *
+     * @return a spliterator over the elements of the deque
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayDequeSpliterator(0, size, modCount);
+    }
+
     /**
      * Returns the smallest non-negative remainder when dividing {@code index}
      * by {@code modulo}. So, for example, if modulo is 5, then this method will
@@ -210,6 +537,17 @@ public class ArrayDeque<T> {
         }
     }
 
+    /**
+     * Returns a boolean value indicating if the deque is empty.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
     /**
      * Returns the number of elements in the deque.
      * <p>
@@ -236,4 +574,121 @@ public class ArrayDeque<T> {
         // DO NOT MODIFY THIS METHOD!
         return backingArray;
     }
+
+    /**
+     * Fail-fast iterator over the deque, in either direction.
+     */
+    private class ArrayDequeIterator implements Iterator<T> {
+        private final boolean descending;
+        private int remaining = size;
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at one end of the deque.
+         *
+         * @param descending true to go from back to front
+         */
+        ArrayDequeIterator(boolean descending) {
+            this.descending = descending;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "Deque was modified during iteration."
+                );
+            }
+            if (remaining == 0) {
+                throw new NoSuchElementException("No more elements in deque.");
+            }
+            remaining--;
+            int index = descending ? remaining : size - remaining - 1;
+            return backingArray[physicalIndex(index)];
+        }
+    }
+
+    /**
+     * Fail-fast spliterator over a range of positions in the deque.
+     */
+    private class ArrayDequeSpliterator implements Spliterator<T> {
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        /**
+         * Creates a spliterator over [origin, fence).
+         *
+         * @param origin           the first position covered
+         * @param fence            the position after the last one covered
+         * @param expectedModCount the modCount the deque should keep
+         */
+        ArrayDequeSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<T> prefix =
+                    new ArrayDequeSpliterator(index, mid, expectedModCount);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null.");
+            }
+            if (index >= fence) {
+                return false;
+            }
+            T data = backingArray[physicalIndex(index++)];
+            action.accept(data);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "Deque was modified during iteration."
+                );
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null.");
+            }
+            for (int i = index; i < fence; i++) {
+                action.accept(backingArray[physicalIndex(i)]);
+            }
+            index = fence;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "Deque was modified during iteration."
+                );
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED
+                    | Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for random access, iteration and bulk adds on ArrayDeque.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class ArrayDequeAccessTest {
+    private ArrayDeque<Integer> deque;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        deque = new ArrayDeque<>();
+        // Wrapped: 2 1 0 at the end of the backing array, 3 4 at the start.
+        deque.addFirst(0);
+        deque.addFirst(1);
+        deque.addFirst(2);
+        deque.removeLast();
+        deque.addLast(0);
+        deque.addLast(3);
+        deque.addLast(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetAndSetAcrossWrap() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals((Integer) new int[] {2, 1, 0, 3, 4}[i], deque.get(i));
+        }
+        assertEquals((Integer) 3, deque.set(3, 30));
+        assertEquals((Integer) 30, deque.get(3));
+        assertEquals((Integer) 2, deque.set(0, 20));
+        assertEquals((Integer) 20, deque.removeFirst());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPeek() {
+        assertEquals((Integer) 2, deque.peekFirst());
+        assertEquals((Integer) 4, deque.peekLast());
+        assertEquals(5, deque.size());
+        ArrayDeque<Integer> empty = new ArrayDeque<>();
+        assertNull(empty.peekFirst());
+        assertNull(empty.peekLast());
+        assertTrue(empty.isEmpty());
+        assertFalse(deque.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        deque.get(5);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testSetNegative() {
+        deque.set(-1, 1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testSetNull() {
+        deque.set(0, null);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterators() {
+        List<Integer> forward = new ArrayList<>();
+        for (int data : deque) {
+            forward.add(data);
+        }
+        assertEquals(List.of(2, 1, 0, 3, 4), forward);
+
+        List<Integer> backward = new ArrayList<>();
+        Iterator<Integer> descending = deque.descendingIterator();
+        while (descending.hasNext()) {
+            backward.add(descending.next());
+        }
+        assertEquals(List.of(4, 3, 0, 1, 2), backward);
+        try {
+            descending.next();
+            fail();
+        } catch (NoSuchElementException e) {
+            // Expected.
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        Iterator<Integer> iterator = deque.iterator();
+        iterator.next();
+        deque.removeLast();
+        iterator.next();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpliterator() {
+        Spliterator<Integer> spliterator = deque.spliterator();
+        assertEquals(5, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(3, spliterator.estimateSize());
+        List<Integer> seen = new ArrayList<>();
+        prefix.forEachRemaining(seen::add);
+        while (spliterator.tryAdvance(seen::add)) {
+            // Collects the rest.
+        }
+        assertEquals(List.of(2, 1, 0, 3, 4), seen);
+        assertFalse(spliterator.tryAdvance(seen::add));
+
+        ArrayDeque<Integer> big = new ArrayDeque<>(true);
+        for (int i = 0; i < 1000; i++) {
+            big.addFirst(i);
+        }
+        assertEquals(499500, (int) StreamSupport.stream(big.spliterator(),
+                true).collect(Collectors.summingInt(Integer::intValue)));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllWrapsWithoutRegrow() {
+        deque.addAll(new Integer[] {5, 6, 7, 8, 9, 10});
+        assertEquals(11, deque.capacity());
+        assertEquals(11, deque.size());
+        for (int i = 0; i < 11; i++) {
+            assertEquals((Integer) new int[] {2, 1, 0, 3, 4, 5, 6, 7, 8, 9,
+                10}[i], deque.get(i));
+        }
+        deque.addLast(11);
+        assertEquals((Integer) 11, deque.get(11));
+        assertEquals((Integer) 2, deque.peekFirst());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllRegrows() {
+        Integer[] data = new Integer[40];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 100 + i;
+        }
+        deque.addAll(data);
+        assertEquals(88, deque.capacity());
+        assertEquals(45, deque.size());
+        assertEquals((Integer) 2, deque.get(0));
+        assertEquals((Integer) 139, deque.peekLast());
+        deque.addFirst(-1);
+        assertEquals((Integer) 139, deque.removeLast());
+        assertEquals((Integer) (-1), deque.removeFirst());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllNullElementAddsNothing() {
+        try {
+            deque.addAll(new Integer[] {1, null});
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(5, deque.size());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Deque;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for ArrayDeque with power-of-two capacities, and for regrowing
+ * with arraycopy.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class ArrayDequePowerOfTwoTest {
+    private ArrayDeque<Integer> deque;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        deque = new ArrayDeque<>(true);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialCapacity() {
+        Object[] backing = deque.getBackingArray();
+        assertEquals(ArrayDeque.POWER_OF_TWO_INITIAL_CAPACITY, backing.length);
+        backing = new ArrayDeque<Integer>().getBackingArray();
+        assertEquals(ArrayDeque.INITIAL_CAPACITY, backing.length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWrapAround() {
+        deque.addFirst(1);
+        deque.addLast(2);
+        Object[] expected = new Object[16];
+        expected[15] = 1;
+        expected[0] = 2;
+        assertArrayEquals(expected, deque.getBackingArray());
+        assertEquals((Integer) 2, deque.removeLast());
+        assertEquals((Integer) 1, deque.removeLast());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRegrowUnwrapsWithDataFirst() {
+        for (int i = 0; i < 8; i++) {
+            deque.addLast(i);
+        }
+        for (int i = -1; i >= -8; i--) {
+            deque.addFirst(i);
+        }
+        deque.addFirst(-9);
+        Object[] backing = deque.getBackingArray();
+        assertEquals(32, backing.length);
+        for (int i = 0; i < 17; i++) {
+            assertEquals(i - 9, backing[i]);
+        }
+        assertEquals(null, backing[17]);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRegrowUnwrapsAddingLast() {
+        for (int i = 0; i < 11; i++) {
+            deque.addFirst(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            deque.addLast(100 + i);
+        }
+        deque.addLast(105);
+        Object[] backing = deque.getBackingArray();
+        assertEquals(32, backing.length);
+        for (int i = 0; i < 11; i++) {
+            assertEquals(10 - i, backing[i]);
+        }
+        for (int i = 0; i < 6; i++) {
+            assertEquals(100 + i, backing[11 + i]);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFuzzAgainstJavaDeque() {
+        Deque<Integer> oracle = new java.util.ArrayDeque<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 20000; i++) {
+            int choice = random.nextInt(oracle.isEmpty() ? 2 : 4);
+            if (choice == 0) {
+                oracle.addFirst(i);
+                deque.addFirst(i);
+            } else if (choice == 1) {
+                oracle.addLast(i);
+                deque.addLast(i);
+            } else if (choice == 2) {
+                assertEquals(oracle.removeFirst(), deque.removeFirst());
+            } else {
+                assertEquals(oracle.removeLast(), deque.removeLast());
+            }
+            assertEquals(oracle.size(), deque.size());
+        }
+        Object[] backing = deque.getBackingArray();
+        int length = backing.length;
+        assertEquals(0, length & (length - 1));
+    }
+}
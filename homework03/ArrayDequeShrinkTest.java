@@ -0,0 +1,146 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for shrinking the backing array of ArrayDeque.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class ArrayDequeShrinkTest {
+    private ArrayDeque<Integer> deque;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        deque = new ArrayDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNoShrinkByDefault() {
+        for (int i = 0; i < 100; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(176, deque.capacity());
+        while (deque.size() > 0) {
+            deque.removeFirst();
+        }
+        assertEquals(176, deque.capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShrinkOnDrain() {
+        deque.setShrinkOnDrain(true);
+        for (int i = 0; i < 100; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(176, deque.capacity());
+        while (deque.size() >= 44) {
+            deque.removeFirst();
+        }
+        assertEquals(88, deque.capacity());
+        assertEquals(43, deque.size());
+        for (int i = 0; i < 43; i++) {
+            assertEquals((Integer) (57 + i), deque.removeFirst());
+        }
+        assertEquals(ArrayDeque.INITIAL_CAPACITY, deque.capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testHysteresis() {
+        deque.setShrinkOnDrain(true);
+        for (int i = 0; i < 45; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(88, deque.capacity());
+        for (int i = 0; i < 24; i++) {
+            deque.removeLast();
+        }
+        assertEquals(44, deque.capacity());
+        for (int i = 0; i < 1000; i++) {
+            deque.addLast(i);
+            deque.removeFirst();
+            deque.removeLast();
+            deque.addFirst(i);
+        }
+        assertEquals(44, deque.capacity());
+        assertEquals(21, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShrinkKeepsOrderWhenWrapped() {
+        deque = new ArrayDeque<>(true);
+        deque.setShrinkOnDrain(true);
+        for (int i = 0; i < 64; i++) {
+            deque.addFirst(i);
+        }
+        assertEquals(64, deque.capacity());
+        for (int i = 0; i < 49; i++) {
+            deque.removeLast();
+        }
+        assertEquals(32, deque.capacity());
+        for (int i = 63; i >= 49; i--) {
+            assertEquals((Integer) i, deque.removeFirst());
+        }
+        assertEquals(ArrayDeque.POWER_OF_TWO_INITIAL_CAPACITY,
+                deque.capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTrimToSize() {
+        for (int i = 0; i < 30; i++) {
+            deque.addFirst(i);
+        }
+        deque.trimToSize();
+        assertEquals(30, deque.capacity());
+        Object[] backing = deque.getBackingArray();
+        for (int i = 0; i < 30; i++) {
+            assertEquals(29 - i, backing[i]);
+        }
+        deque.addLast(-1);
+        assertEquals(60, deque.capacity());
+        assertEquals((Integer) (-1), deque.removeLast());
+        assertEquals((Integer) 29, deque.removeFirst());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTrimToSizeFullAndEmpty() {
+        for (int i = 0; i < 11; i++) {
+            deque.addLast(i);
+        }
+        deque.trimToSize();
+        assertEquals(11, deque.capacity());
+        while (deque.size() > 0) {
+            deque.removeFirst();
+        }
+        deque.trimToSize();
+        assertEquals(1, deque.capacity());
+        deque.addFirst(1);
+        deque.addFirst(2);
+        deque.addLast(3);
+        assertEquals((Integer) 2, deque.removeFirst());
+        assertEquals((Integer) 3, deque.removeLast());
+        assertEquals((Integer) 1, deque.removeLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTrimToSizePowerOfTwo() {
+        deque = new ArrayDeque<>(true);
+        for (int i = 0; i < 40; i++) {
+            deque.addLast(i);
+        }
+        for (int i = 0; i < 35; i++) {
+            deque.removeFirst();
+        }
+        deque.trimToSize();
+        assertEquals(8, deque.capacity());
+        for (int i = 35; i < 40; i++) {
+            assertEquals((Integer) i, deque.removeFirst());
+        }
+        deque.trimToSize();
+        assertEquals(1, deque.capacity());
+    }
+}
@@ -0,0 +1,408 @@
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, thread-safe deque backed by an {@link ArrayDeque}, for use as
+ * the buffer between producer and consumer threads.
+ * <p>
+ * Adding to a full deque either fails straight away (the offer methods),
+ * waits up to a timeout, or waits until there is room (the put methods),
+ * so a slow consumer pushes back on its producers instead of letting the
+ * buffer grow without limit. Removing from an empty deque waits in the same
+ * way. Consumers that can handle a batch at a time should use
+ * {@link #drainTo(Collection, int)}, which moves many elements for one
+ * acquisition of the lock.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ * @userid iarya3
+ * @GTID 903399427
+ */
+public class BlockingArrayDeque<T> {
+
+    private final ArrayDeque<T> deque;
+    private final int bound;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+
+    /**
+     * Constructs a new, empty BlockingArrayDeque that holds at most the
+     * given number of elements.
+     *
+     * @param bound the largest number of elements the deque may hold
+     * @throws java.lang.IllegalArgumentException if bound is not positive
+     */
+    public BlockingArrayDeque(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException(
+                    "Bound must be positive: bound=" + bound
+            );
+        }
+        this.deque = new ArrayDeque<>(true);
+        this.bound = bound;
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+    }
+
+    /**
+     * Adds the data to the front of the deque if there is room.
+     *
+     * @param data the data to add to the deque
+     * @return true if the data was added; false if the deque is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offerFirst(T data) {
+        checkData(data);
+        lock.lock();
+        try {
+            if (deque.size() == bound) {
+                return false;
+            }
+            deque.addFirst(data);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the deque if there is room.
+     *
+     * @param data the data to add to the deque
+     * @return true if the data was added; false if the deque is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offerLast(T data) {
+        checkData(data);
+        lock.lock();
+        try {
+            if (deque.size() == bound) {
+                return false;
+            }
+            deque.addLast(data);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the front of the deque, waiting up to the given time
+     * for room.
+     *
+     * @param data    the data to add to the deque
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return true if the data was added; false if the time ran out first
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public boolean offerFirst(T data, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        checkData(data);
+        lock.lockInterruptibly();
+        try {
+            if (!awaitRoom(unit.toNanos(timeout))) {
+                return false;
+            }
+            deque.addFirst(data);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the deque, waiting up to the given time
+     * for room.
+     *
+     * @param data    the data to add to the deque
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return true if the data was added; false if the time ran out first
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public boolean offerLast(T data, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        checkData(data);
+        lock.lockInterruptibly();
+        try {
+            if (!awaitRoom(unit.toNanos(timeout))) {
+                return false;
+            }
+            deque.addLast(data);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the front of the deque, waiting as long as it takes
+     * for room.
+     *
+     * @param data the data to add to the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public void putFirst(T data) throws InterruptedException {
+        checkData(data);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == bound) {
+                notFull.await();
+            }
+            deque.addFirst(data);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the deque, waiting as long as it takes
+     * for room.
+     *
+     * @param data the data to add to the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public void putLast(T data) throws InterruptedException {
+        checkData(data);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == bound) {
+                notFull.await();
+            }
+            deque.addLast(data);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data at the front of the deque, waiting up to the given
+     * time for an element.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return the data formerly at the front, or null if the time ran out
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T pollFirst(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (!awaitElement(unit.toNanos(timeout))) {
+                return null;
+            }
+            T data = deque.removeFirst();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data at the back of the deque, waiting up to the given
+     * time for an element.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return the data formerly at the back, or null if the time ran out
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T pollLast(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (!awaitElement(unit.toNanos(timeout))) {
+                return null;
+            }
+            T data = deque.removeLast();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data at the front of the deque, waiting as long as it
+     * takes for an element.
+     *
+     * @return the data formerly at the front of the deque
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T takeFirst() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                notEmpty.await();
+            }
+            T data = deque.removeFirst();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data at the back of the deque, waiting as long as it
+     * takes for an element.
+     *
+     * @return the data formerly at the back of the deque
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T takeLast() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                notEmpty.await();
+            }
+            T data = deque.removeLast();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to maxElements elements from the front of the deque and
+     * adds them, in order, to the given collection, all under a single
+     * acquisition of the lock. Does not wait for elements.
+     * <p>
+     * If adding an element to the collection throws, that element and the
+     * ones after it stay in the deque, and the exception is rethrown after
+     * waking any producers waiting for the room already freed.
+     *
+     * @param collection  the collection to add the elements to
+     * @param maxElements the largest number of elements to move
+     * @return the number of elements moved
+     * @throws java.lang.IllegalArgumentException if collection is null or
+     *                                            maxElements is negative
+     */
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        if (collection == null) {
+            throw new IllegalArgumentException(
+                    "Cannot drain into null collection"
+            );
+        }
+        if (maxElements < 0) {
+            throw new IllegalArgumentException(
+                    "Cannot drain a negative number of elements: maxElements="
+                            + maxElements
+            );
+        }
+        lock.lock();
+        int moved = 0;
+        try {
+            int limit = Math.min(maxElements, deque.size());
+            while (moved < limit) {
+                // Only remove the element once the add has succeeded, so
+                // an add that throws leaves it in the deque.
+                collection.add(deque.peekFirst());
+                deque.removeFirst();
+                moved++;
+            }
+            return moved;
+        } finally {
+            if (moved > 0) {
+                notFull.signalAll();
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements in the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements that can be added before the deque is
+     * full.
+     *
+     * @return the bound minus the size
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return bound - deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the deque has room or the time runs out. The lock must be
+     * held.
+     *
+     * @param nanos how long to wait, in nanoseconds
+     * @return true if the deque has room
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    private boolean awaitRoom(long nanos) throws InterruptedException {
+        while (deque.size() == bound) {
+            if (nanos <= 0) {
+                return false;
+            }
+            nanos = notFull.awaitNanos(nanos);
+        }
+        return true;
+    }
+
+    /**
+     * Waits until the deque has an element or the time runs out. The lock
+     * must be held.
+     *
+     * @param nanos how long to wait, in nanoseconds
+     * @return true if the deque has an element
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    private boolean awaitElement(long nanos) throws InterruptedException {
+        while (deque.size() == 0) {
+            if (nanos <= 0) {
+                return false;
+            }
+            nanos = notEmpty.awaitNanos(nanos);
+        }
+        return true;
+    }
+
+    /**
+     * Throws if the data cannot be added to the deque.
+     *
+     * @param data the data to check
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    private static void checkData(Object data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Cannot insert null data into deque."
+            );
+        }
+    }
+}
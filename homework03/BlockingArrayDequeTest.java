@@ -0,0 +1,162 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for BlockingArrayDeque.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class BlockingArrayDequeTest {
+    private BlockingArrayDeque<Integer> deque;
+
+    public static final int TIMEOUT = 200;
+    public static final int THREAD_TIMEOUT = 10000;
+
+    @Before
+    public void setUp() {
+        deque = new BlockingArrayDeque<>(3);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOfferWhenFull() {
+        assertTrue(deque.offerLast(2));
+        assertTrue(deque.offerFirst(1));
+        assertTrue(deque.offerLast(3));
+        assertFalse(deque.offerLast(4));
+        assertFalse(deque.offerFirst(0));
+        assertEquals(3, deque.size());
+        assertEquals(0, deque.remainingCapacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTimedOfferAndPollTimeOut() throws InterruptedException {
+        assertNull(deque.pollFirst(10, TimeUnit.MILLISECONDS));
+        assertNull(deque.pollLast(0, TimeUnit.MILLISECONDS));
+        deque.putLast(1);
+        deque.putLast(2);
+        deque.putFirst(0);
+        assertFalse(deque.offerLast(3, 10, TimeUnit.MILLISECONDS));
+        assertFalse(deque.offerFirst(3, 0, TimeUnit.MILLISECONDS));
+        assertEquals((Integer) 0, deque.pollFirst(0, TimeUnit.MILLISECONDS));
+        assertTrue(deque.offerFirst(5, 0, TimeUnit.MILLISECONDS));
+        assertEquals((Integer) 2, deque.takeLast());
+        assertEquals((Integer) 5, deque.takeFirst());
+        assertEquals((Integer) 1, deque.pollLast(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDrainTo() {
+        deque.offerLast(1);
+        deque.offerLast(2);
+        deque.offerLast(3);
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(2, deque.drainTo(batch, 2));
+        assertEquals(List.of(1, 2), batch);
+        assertEquals(1, deque.drainTo(batch, 10));
+        assertEquals(List.of(1, 2, 3), batch);
+        assertEquals(0, deque.drainTo(batch, 10));
+        assertEquals(3, deque.remainingCapacity());
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testDrainToFailingCollection() throws InterruptedException {
+        deque.offerLast(1);
+        deque.offerLast(2);
+        deque.offerLast(3);
+        Thread producer = new Thread(() -> {
+            try {
+                deque.putLast(4);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        List<Integer> batch = new ArrayList<Integer>() {
+            @Override
+            public boolean add(Integer data) {
+                if (data == 2) {
+                    throw new IllegalStateException("Rejecting " + data);
+                }
+                return super.add(data);
+            }
+        };
+        try {
+            deque.drainTo(batch, 10);
+            assertFalse("drainTo should have thrown", true);
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+        assertEquals(List.of(1), batch);
+        producer.join();
+        assertEquals((Integer) 2, deque.pollFirst(0, TimeUnit.SECONDS));
+        assertEquals((Integer) 3, deque.pollFirst(0, TimeUnit.SECONDS));
+        assertEquals((Integer) 4, deque.pollFirst(0, TimeUnit.SECONDS));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNullData() {
+        deque.offerLast(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testBadBound() {
+        new BlockingArrayDeque<Integer>(0);
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testPutBlocksUntilTaken() throws InterruptedException {
+        int count = 10000;
+        List<Integer> received = new ArrayList<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                while (received.size() < count) {
+                    if (received.size() % 2 == 0) {
+                        received.add(deque.takeFirst());
+                    } else {
+                        deque.drainTo(received, 5);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        for (int i = 0; i < count; i++) {
+            deque.putLast(i);
+            assertTrue(deque.size() <= 3);
+        }
+        consumer.join();
+        for (int i = 0; i < count; i++) {
+            assertEquals((Integer) i, received.get(i));
+        }
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testTakeInterrupted() throws InterruptedException {
+        boolean[] interrupted = new boolean[1];
+        Thread consumer = new Thread(() -> {
+            try {
+                deque.takeFirst();
+            } catch (InterruptedException e) {
+                interrupted[0] = true;
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+        consumer.join();
+        assertTrue(interrupted[0]);
+    }
+}
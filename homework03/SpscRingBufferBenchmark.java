@@ -0,0 +1,157 @@
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many elements per second one thread can hand to another
+ * through an SpscRingBuffer, one at a time and in batches, against a
+ * BlockingArrayDeque.
+ * <p>
+ * Usage: {@code java SpscRingBufferBenchmark [handoffs] [batch size]}. Each
+ * scenario runs once as a warm-up before it is measured. A thread that
+ * finds the buffer full or empty spins briefly and then yields, so the
+ * two threads can make progress even when they share a core.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ * @userid iarya3
+ * @GTID 903399427
+ */
+public class SpscRingBufferBenchmark {
+
+    private static final int CAPACITY = 1024;
+    // Failed attempts in a row before a waiting thread yields its core.
+    private static final int SPINS = 100;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optionally, the number of handoffs and the batch size
+     * @throws InterruptedException if interrupted while waiting for a run
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int handoffs = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        for (boolean warmUp : new boolean[] {true, false}) {
+            report("SpscRingBuffer", warmUp, handoffs,
+                    ringBuffer(handoffs, 1));
+            report("SpscRingBuffer batch", warmUp, handoffs,
+                    ringBuffer(handoffs, batchSize));
+            report("BlockingArrayDeque", warmUp, handoffs,
+                    blockingDeque(handoffs));
+        }
+    }
+
+    /**
+     * Prints a scenario's handoffs per second unless it was a warm-up run.
+     *
+     * @param name     the name of the scenario
+     * @param warmUp   whether the run was a warm-up
+     * @param handoffs the number of elements handed over
+     * @param nanos    how long the handoffs took
+     */
+    private static void report(String name, boolean warmUp, int handoffs,
+                               long nanos) {
+        if (!warmUp) {
+            System.out.printf("%-22s %,15.0f handoffs/s%n", name,
+                    handoffs * 1e9 / nanos);
+        }
+    }
+
+    /**
+     * Hands elements through an SpscRingBuffer.
+     *
+     * @param handoffs  the number of elements to hand over
+     * @param batchSize the number of elements to offer and poll at once, or
+     *                  1 to use the single-element methods
+     * @return the time taken, in nanoseconds
+     * @throws InterruptedException if interrupted while waiting for the
+     *                              producer
+     */
+    private static long ringBuffer(int handoffs, int batchSize)
+            throws InterruptedException {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(CAPACITY);
+        Integer[] elements = new Integer[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            elements[i] = i;
+        }
+        Thread producer = new Thread(() -> {
+            int sent = 0;
+            int misses = 0;
+            while (sent < handoffs) {
+                int added;
+                if (batchSize == 1) {
+                    added = buffer.offer(elements[0]) ? 1 : 0;
+                } else {
+                    added = buffer.offer(elements, 0,
+                            Math.min(batchSize, handoffs - sent));
+                }
+                misses = added == 0 ? idle(misses) : 0;
+                sent += added;
+            }
+        });
+        Integer[] received = new Integer[batchSize];
+        long begin = System.nanoTime();
+        producer.start();
+        int taken = 0;
+        int misses = 0;
+        while (taken < handoffs) {
+            int polled;
+            if (batchSize == 1) {
+                polled = buffer.poll() == null ? 0 : 1;
+            } else {
+                polled = buffer.poll(received, 0, batchSize);
+            }
+            misses = polled == 0 ? idle(misses) : 0;
+            taken += polled;
+        }
+        long nanos = System.nanoTime() - begin;
+        producer.join();
+        return nanos;
+    }
+
+    /**
+     * Waits briefly after a failed offer or poll: spins at first, then
+     * yields the core so the other thread can run even when the two share
+     * one.
+     *
+     * @param misses the number of failed attempts in a row before this one
+     * @return the number of failed attempts in a row including this one
+     */
+    private static int idle(int misses) {
+        if (misses < SPINS) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+        return misses + 1;
+    }
+
+    /**
+     * Hands elements through a BlockingArrayDeque.
+     *
+     * @param handoffs the number of elements to hand over
+     * @return the time taken, in nanoseconds
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static long blockingDeque(int handoffs)
+            throws InterruptedException {
+        BlockingArrayDeque<Integer> deque = new BlockingArrayDeque<>(CAPACITY);
+        Integer element = 0;
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < handoffs; i++) {
+                    deque.putLast(element);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        long begin = System.nanoTime();
+        producer.start();
+        for (int i = 0; i < handoffs; i++) {
+            deque.pollFirst(1, TimeUnit.MINUTES);
+        }
+        long nanos = System.nanoTime() - begin;
+        producer.join();
+        return nanos;
+    }
+}
@@ -0,0 +1,117 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for SpscRingBuffer.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class SpscRingBufferTest {
+
+    public static final int TIMEOUT = 200;
+    public static final int THREAD_TIMEOUT = 10000;
+
+    @Test(timeout = TIMEOUT)
+    public void testCapacityRoundsUp() {
+        assertEquals(8, new SpscRingBuffer<Integer>(5).capacity());
+        assertEquals(8, new SpscRingBuffer<Integer>(8).capacity());
+        assertEquals(1, new SpscRingBuffer<Integer>(1).capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOfferPollWrapAround() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4);
+        assertNull(buffer.poll());
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer(round * 4 + i));
+            }
+            assertFalse(buffer.offer(-1));
+            assertEquals(4, buffer.size());
+            assertEquals((Integer) (round * 4), buffer.poll());
+            assertTrue(buffer.offer(-2));
+            for (int i = 1; i < 4; i++) {
+                assertEquals((Integer) (round * 4 + i), buffer.poll());
+            }
+            assertEquals((Integer) (-2), buffer.poll());
+            assertNull(buffer.poll());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBatchWrapAround() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(8);
+        Integer[] data = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        assertEquals(6, buffer.offer(data, 0, 6));
+        Integer[] out = new Integer[10];
+        assertEquals(5, buffer.poll(out, 0, 5));
+        assertEquals(7, buffer.offer(data, 3, 7));
+        assertEquals(0, buffer.offer(data, 0, 1));
+        assertEquals(8, buffer.size());
+        assertEquals(8, buffer.poll(out, 2, 8));
+        assertArrayEquals(new Integer[] {0, 1, 5, 3, 4, 5, 6, 7, 8, 9}, out);
+        assertEquals(0, buffer.poll(out, 0, 10));
+        assertNull(buffer.poll());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testOfferNull() {
+        new SpscRingBuffer<Integer>(4).offer((Integer) null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testBatchOutOfRange() {
+        new SpscRingBuffer<Integer>(4).offer(new Integer[2], 1, 2);
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testHandoffInOrder() throws InterruptedException {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(64);
+        int count = 500000;
+        Thread producer = new Thread(() -> {
+            Integer[] batch = new Integer[7];
+            int next = 0;
+            while (next < count) {
+                if (next % 3 == 0) {
+                    int length = Math.min(batch.length, count - next);
+                    for (int i = 0; i < length; i++) {
+                        batch[i] = next + i;
+                    }
+                    int added = buffer.offer(batch, 0, length);
+                    next += added;
+                    if (added == 0) {
+                        Thread.yield();
+                    }
+                } else if (buffer.offer(next)) {
+                    next++;
+                } else {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        Integer[] batch = new Integer[5];
+        int expected = 0;
+        while (expected < count) {
+            int polled = buffer.poll(batch, 0, batch.length);
+            for (int i = 0; i < polled; i++) {
+                assertEquals((Integer) expected++, batch[i]);
+            }
+            Integer single = buffer.poll();
+            if (single != null) {
+                assertEquals((Integer) expected++, single);
+            }
+            if (polled == 0 && single == null) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        assertEquals(0, buffer.size());
+    }
+}
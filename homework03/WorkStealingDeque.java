@@ -0,0 +1,202 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free work-stealing deque (Chase-Lev).
+ * <p>
+ * One owner thread adds and removes at the back of the deque, like a stack,
+ * while any number of other threads steal from the front. The owner only
+ * synchronizes with thieves when the deque is down to its last element, so
+ * a thread that mostly consumes its own work pays almost nothing for the
+ * deque being shared. Unlike the other deques there is no addFirst: only
+ * the owner adds, and only at the back.
+ * <p>
+ * The elements live in a circular array whose length is a power of two.
+ * The owner doubles the array when it fills up; thieves still reading the
+ * old array see the same elements there.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ * @userid iarya3
+ * @GTID 903399427
+ */
+public class WorkStealingDeque<T> {
+
+    /**
+     * The initial length of the backing array. Must be a power of two.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    // Index of the front element; only ever incremented, by CAS.
+    private final AtomicLong top;
+    // Index one past the back element; only written by the owner.
+    private volatile long bottom;
+    private volatile AtomicReferenceArray<T> backingArray;
+
+    /**
+     * Constructs a new, empty WorkStealingDeque.
+     */
+    public WorkStealingDeque() {
+        top = new AtomicLong();
+        backingArray = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds the data to the back of the deque.
+     * <p>
+     * Must only be called by the owner thread. This method must run in
+     * amortized O(1) time.
+     *
+     * @param data the data to add to the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Cannot insert null data into deque"
+            );
+        }
+        long b = bottom;
+        long t = top.get();
+        AtomicReferenceArray<T> array = backingArray;
+        if (b - t >= array.length()) {
+            array = grow(array, t, b);
+        }
+        array.lazySet((int) b & (array.length() - 1), data);
+        bottom = b + 1;
+    }
+
+    /**
+     * Removes the data at the back of the deque, or returns null if the
+     * deque is empty.
+     * <p>
+     * Must only be called by the owner thread. This method must run in O(1)
+     * time.
+     *
+     * @return the data formerly at the back of the deque, or null if empty
+     */
+    public T pollLast() {
+        long b = bottom - 1;
+        AtomicReferenceArray<T> array = backingArray;
+        bottom = b;
+        long t = top.get();
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+        int index = (int) b & (array.length() - 1);
+        T data = array.get(index);
+        if (t < b) {
+            // Thieves can no longer reach index b, so the slot is ours.
+            array.lazySet(index, null);
+            return data;
+        }
+        // Last element: race the thieves for it.
+        if (!top.compareAndSet(t, t + 1)) {
+            data = null;
+        }
+        bottom = b + 1;
+        return data;
+    }
+
+    /**
+     * Removes the data at the back of the deque.
+     * <p>
+     * Must only be called by the owner thread. This method must run in O(1)
+     * time.
+     *
+     * @return the data formerly at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        T data = pollLast();
+        if (data == null) {
+            throw new NoSuchElementException("Cannot remove from empty deque");
+        }
+        return data;
+    }
+
+    /**
+     * Steals the data at the front of the deque, or returns null if the
+     * deque is empty.
+     * <p>
+     * Safe to call from any thread. Lock-free: a steal only retries when
+     * another thread removed the front element first.
+     *
+     * @return the data formerly at the front of the deque, or null if empty
+     */
+    public T pollFirst() {
+        while (true) {
+            long t = top.get();
+            long b = bottom;
+            if (t >= b) {
+                return null;
+            }
+            AtomicReferenceArray<T> array = backingArray;
+            T data = array.get((int) t & (array.length() - 1));
+            if (top.compareAndSet(t, t + 1)) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Steals the data at the front of the deque.
+     * <p>
+     * Safe to call from any thread.
+     *
+     * @return the data formerly at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        T data = pollFirst();
+        if (data == null) {
+            throw new NoSuchElementException("Cannot remove from empty deque");
+        }
+        return data;
+    }
+
+    /**
+     * Returns whether the deque was empty at some point during the call.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return top.get() >= bottom;
+    }
+
+    /**
+     * Returns the number of elements in the deque. With other threads
+     * stealing, this is only a snapshot.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        long b = bottom;
+        long t = top.get();
+        return (int) Math.max(0, b - t);
+    }
+
+    /**
+     * Replaces the backing array with one twice as long holding the same
+     * elements at the same indices.
+     *
+     * @param array the full backing array
+     * @param t     the index of the front element
+     * @param b     the index one past the back element
+     * @return the new backing array
+     */
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> array,
+                                         long t, long b) {
+        AtomicReferenceArray<T> newArray =
+                new AtomicReferenceArray<>(array.length() * 2);
+        int oldMask = array.length() - 1;
+        int newMask = newArray.length() - 1;
+        for (long i = t; i < b; i++) {
+            newArray.lazySet((int) i & newMask, array.get((int) i & oldMask));
+        }
+        backingArray = newArray;
+        return newArray;
+    }
+}
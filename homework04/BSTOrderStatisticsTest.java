@@ -0,0 +1,157 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the subtree-size queries of BST: select, rank, countInRange,
+ * kLargest and kSmallest.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class BSTOrderStatisticsTest {
+    private BST<Integer> bst;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        /*
+                     50
+                   /    \
+                 25      75
+                /  \       \
+              12    37      90
+             /  \     \
+            10  15     40
+                /
+              13
+         */
+        bst = new BST<>();
+        for (int data : new int[] {50, 25, 75, 12, 37, 90, 10, 15, 40, 13}) {
+            bst.add(data);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSubtreeSizes() {
+        assertEquals(10, bst.getRoot().getSize());
+        assertEquals(7, bst.getRoot().getLeft().getSize());
+        assertEquals(2, bst.getRoot().getRight().getSize());
+        bst.add(50);
+        bst.remove(25);
+        checkSizes(bst.getRoot());
+        assertEquals(9, bst.getRoot().getSize());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSelectAndRank() {
+        List<Integer> inorder = bst.inorder();
+        for (int i = 0; i < inorder.size(); i++) {
+            assertEquals(inorder.get(i), bst.select(i));
+            assertEquals(i, bst.rank(inorder.get(i)));
+        }
+        assertEquals(0, bst.rank(-5));
+        assertEquals(5, bst.rank(30));
+        assertEquals(10, bst.rank(100));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCountInRange() {
+        assertEquals(10, bst.countInRange(10, 90));
+        assertEquals(4, bst.countInRange(13, 37));
+        assertEquals(3, bst.countInRange(14, 38));
+        assertEquals(0, bst.countInRange(41, 49));
+        assertEquals(1, bst.countInRange(50, 50));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testKLargestAndKSmallest() {
+        assertEquals(List.of(37, 40, 50, 75, 90), bst.kLargest(5));
+        assertEquals(List.of(50, 75, 90), bst.kLargest(3));
+        assertEquals(List.of(10, 12, 13), bst.kSmallest(3));
+        assertEquals(bst.inorder(), bst.kSmallest(10));
+        assertEquals(bst.inorder(), bst.kLargest(10));
+        assertEquals(List.of(), bst.kLargest(0));
+        assertEquals(List.of(), new BST<Integer>().kSmallest(0));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testSelectOutOfRange() {
+        bst.select(10);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testKSmallestTooMany() {
+        bst.kSmallest(11);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testCountInRangeReversed() {
+        bst.countInRange(50, 10);
+    }
+
+    @Test(timeout = 5000)
+    public void testFuzzBothModes() {
+        for (boolean balanced : new boolean[] {false, true}) {
+            Random random = new Random(1332);
+            BST<Integer> tree = new BST<>(balanced);
+            TreeSet<Integer> oracle = new TreeSet<>();
+            for (int i = 0; i < 5000; i++) {
+                int data = random.nextInt(1000);
+                if (random.nextInt(3) == 0 && oracle.remove(data)) {
+                    tree.remove(data);
+                } else {
+                    tree.add(data);
+                    oracle.add(data);
+                }
+            }
+            checkSizes(tree.getRoot());
+            List<Integer> sorted = new ArrayList<>(oracle);
+            for (int i = 0; i < sorted.size(); i += 7) {
+                assertEquals(sorted.get(i), tree.select(i));
+            }
+            for (int data = -1; data < 1001; data += 3) {
+                assertEquals(oracle.headSet(data).size(), tree.rank(data));
+                int high = data + 50;
+                assertEquals(oracle.subSet(data, true, high, true).size(),
+                        tree.countInRange(data, high));
+            }
+            assertEquals(sorted.subList(sorted.size() - 20, sorted.size()),
+                    tree.kLargest(20));
+            assertEquals(sorted.subList(0, 20), tree.kSmallest(20));
+        }
+    }
+
+    @Test(timeout = 2000)
+    public void testBulkBuiltSizes() {
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            data.add(i);
+        }
+        checkSizes(new BST<>(data).getRoot());
+        checkSizes(new BST<>(data, true).getRoot());
+        assertEquals((Integer) 500, new BST<>(data, true).select(500));
+    }
+
+    /**
+     * Checks that every node's size is one more than its children's sizes.
+     *
+     * @param node the root of the subtree
+     * @return the number of nodes in the subtree
+     */
+    private static int checkSizes(BSTNode<Integer> node) {
+        if (node == null) {
+            return 0;
+        }
+        int size = 1 + checkSizes(node.getLeft()) + checkSizes(node.getRight());
+        assertEquals(size, node.getSize());
+        return size;
+    }
+}
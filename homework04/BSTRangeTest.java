@@ -0,0 +1,157 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the navigation methods, range search and views of BST.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class BSTRangeTest {
+    private BST<Integer> bst;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        /*
+                     50
+                   /    \
+                 25      75
+                /  \       \
+              12    37      90
+             /  \     \
+            10  15     40
+                /
+              13
+         */
+        bst = new BST<>();
+        for (int data : new int[] {50, 25, 75, 12, 37, 90, 10, 15, 40, 13}) {
+            bst.add(data);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNavigation() {
+        assertEquals((Integer) 37, bst.floor(37));
+        assertEquals((Integer) 40, bst.floor(49));
+        assertNull(bst.floor(9));
+        assertEquals((Integer) 37, bst.ceiling(37));
+        assertEquals((Integer) 50, bst.ceiling(41));
+        assertNull(bst.ceiling(91));
+        assertEquals((Integer) 40, bst.higher(37));
+        assertNull(bst.higher(90));
+        assertEquals((Integer) 25, bst.lower(37));
+        assertNull(bst.lower(10));
+        assertNull(new BST<Integer>().floor(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRangeSearch() {
+        assertEquals(List.of(13, 15, 25, 37), drain(bst.rangeSearch(13, 37)));
+        assertEquals(List.of(12, 13, 15, 25, 37),
+                drain(bst.rangeSearch(12, 38)));
+        assertEquals(List.of(), drain(bst.rangeSearch(41, 49)));
+        assertEquals(List.of(90), drain(bst.rangeSearch(80, 1000)));
+        assertEquals(bst.inorder(), drain(bst.rangeSearch(0, 100)));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testViews() {
+        Set<Integer> head = bst.headSet(25);
+        Set<Integer> tail = bst.tailSet(40);
+        assertEquals(List.of(10, 12, 13, 15), new ArrayList<>(head));
+        assertEquals(List.of(40, 50, 75, 90), new ArrayList<>(tail));
+        assertEquals(4, head.size());
+        assertTrue(head.contains(13));
+        assertFalse(head.contains(25));
+        assertFalse(tail.contains(37));
+        assertFalse(tail.contains(41));
+
+        bst.add(11);
+        bst.remove(90);
+        assertEquals(5, head.size());
+        assertTrue(head.contains(11));
+        assertEquals(List.of(40, 50, 75), new ArrayList<>(tail));
+    }
+
+    @Test(timeout = TIMEOUT, expected = UnsupportedOperationException.class)
+    public void testViewIsReadOnly() {
+        bst.headSet(25).add(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testRangeSearchFailFast() {
+        Iterator<Integer> iterator = bst.rangeSearch(10, 50);
+        iterator.next();
+        bst.add(11);
+        iterator.next();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testRangeSearchReversed() {
+        bst.rangeSearch(50, 10);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testFloorNull() {
+        bst.floor(null);
+    }
+
+    @Test(timeout = 5000)
+    public void testFuzzBothModes() {
+        for (boolean balanced : new boolean[] {false, true}) {
+            Random random = new Random(1332);
+            BST<Integer> tree = new BST<>(balanced);
+            NavigableSet<Integer> oracle = new TreeSet<>();
+            for (int i = 0; i < 3000; i++) {
+                int data = random.nextInt(2000);
+                tree.add(data);
+                oracle.add(data);
+            }
+            for (int data = -1; data < 2001; data += 7) {
+                assertEquals(oracle.floor(data), tree.floor(data));
+                assertEquals(oracle.ceiling(data), tree.ceiling(data));
+                assertEquals(oracle.higher(data), tree.higher(data));
+                assertEquals(oracle.lower(data), tree.lower(data));
+                int high = data + random.nextInt(100);
+                assertEquals(new ArrayList<>(oracle.subSet(data, true, high,
+                        true)), drain(tree.rangeSearch(data, high)));
+                assertEquals(oracle.headSet(data).size(),
+                        tree.headSet(data).size());
+                assertEquals(oracle.tailSet(data).size(),
+                        tree.tailSet(data).size());
+            }
+            assertEquals(new ArrayList<>(oracle.tailSet(1500)),
+                    new ArrayList<>(tree.tailSet(1500)));
+        }
+    }
+
+    /**
+     * Drains an iterator into a list.
+     *
+     * @param iterator the iterator to drain
+     * @return the data, in the order the iterator returned it
+     */
+    private static List<Integer> drain(Iterator<Integer> iterator) {
+        List<Integer> list = new ArrayList<>();
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,134 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the iterative traversals and lazy iterators of BST.
+ *
+ * @author Ishan Arya
+ * @version 1.0
+ */
+public class BSTTraversalTest {
+    private BST<Integer> bst;
+
+    public static final int TIMEOUT = 200;
+
+    @Before
+    public void setUp() {
+        /*
+                     50
+                   /    \
+                 25      75
+                /  \       \
+              12    37      90
+             /  \     \
+            10  15     40
+                /
+              13
+         */
+        bst = new BST<>();
+        for (int data : new int[] {50, 25, 75, 12, 37, 90, 10, 15, 40, 13}) {
+            bst.add(data);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testListTraversals() {
+        assertEquals(List.of(50, 25, 12, 10, 15, 13, 37, 40, 75, 90),
+                bst.preorder());
+        assertEquals(List.of(10, 12, 13, 15, 25, 37, 40, 50, 75, 90),
+                bst.inorder());
+        assertEquals(List.of(10, 13, 15, 12, 40, 37, 25, 90, 75, 50),
+                bst.postorder());
+        assertEquals(List.of(50, 25, 75, 12, 37, 90, 10, 15, 40, 13),
+                bst.levelorder());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIteratorsMatchLists() {
+        assertEquals(bst.preorder(), drain(bst.preorderIterator()));
+        assertEquals(bst.inorder(), drain(bst.inorderIterator()));
+        assertEquals(bst.levelorder(), drain(bst.levelorderIterator()));
+        List<Integer> forEach = new ArrayList<>();
+        for (int data : bst) {
+            forEach.add(data);
+        }
+        assertEquals(bst.inorder(), forEach);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStreamsAreLazy() {
+        assertEquals(List.of(10, 12, 13), bst.inorderStream().limit(3)
+                .collect(Collectors.toList()));
+        assertEquals(List.of(50, 25), bst.preorderStream().limit(2)
+                .collect(Collectors.toList()));
+        assertEquals(90, (int) bst.levelorderStream().filter(x -> x > 80)
+                .findFirst().get());
+        assertEquals(10, bst.inorderStream().count());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmptyTree() {
+        bst.clear();
+        assertTrue(bst.postorder().isEmpty());
+        assertFalse(bst.inorderIterator().hasNext());
+        assertFalse(bst.preorderIterator().hasNext());
+        assertFalse(bst.levelorderIterator().hasNext());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testIteratorExhausted() {
+        Iterator<Integer> iterator = bst.inorderIterator();
+        drain(iterator);
+        iterator.next();
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        Iterator<Integer> iterator = bst.preorderIterator();
+        iterator.next();
+        bst.remove(13);
+        iterator.next();
+    }
+
+    @Test(timeout = 2000)
+    public void testDegenerateTreeDoesNotRecurse() {
+        bst.clear();
+        int n = 5000;
+        for (int i = 0; i < n; i++) {
+            bst.add(i);
+        }
+        List<Integer> inorder = bst.inorder();
+        List<Integer> postorder = bst.postorder();
+        assertEquals(n, inorder.size());
+        for (int i = 0; i < n; i++) {
+            assertEquals((Integer) i, inorder.get(i));
+            assertEquals((Integer) (n - 1 - i), postorder.get(i));
+        }
+        assertEquals(bst.preorder(), bst.levelorder());
+    }
+
+    /**
+     * Drains an iterator into a list.
+     *
+     * @param iterator the iterator to drain
+     * @return the data, in the order the iterator returned it
+     */
+    private static List<Integer> drain(Iterator<Integer> iterator) {
+        List<Integer> list = new ArrayList<>();
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+        return list;
+    }
+}